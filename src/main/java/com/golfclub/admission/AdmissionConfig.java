@@ -0,0 +1,28 @@
+package com.golfclub.admission;
+
+import com.golfclub.sharding.ClubShardRouter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public PoolWaitMonitor poolWaitMonitor(AdmissionProperties properties) {
+        return new PoolWaitMonitor(properties.getQueueWaitMs(), properties.getShedWaitMs());
+    }
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter(AdmissionProperties properties) {
+        return new ClientRateLimiter(properties.getRequestsPerSecond(), properties.getBurst(),
+                properties.getStripes(), properties.getMaxClients());
+    }
+
+    @Bean
+    public AdmissionControl admissionControl(AdmissionProperties properties, ClientRateLimiter limiter,
+                                             PoolWaitMonitor monitor, ClubShardRouter router) {
+        return new AdmissionControl(properties, limiter, monitor, router);
+    }
+}
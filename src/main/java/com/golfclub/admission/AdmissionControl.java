@@ -0,0 +1,96 @@
+package com.golfclub.admission;
+
+import com.golfclub.sharding.ClubContext;
+import com.golfclub.sharding.ClubShardRouter;
+import com.golfclub.sharding.ShardingConfig;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether a request may run. Every request, registrations
+ * included, takes a token from its client's bucket. Low-priority reads
+ * are then checked against the current club's connection pool: while
+ * callers wait longer than {@code queue-wait-ms} for a connection, only
+ * {@code queue-concurrency} reads run at once and the rest wait up to
+ * {@code queue-timeout-ms} for a slot; past {@code shed-wait-ms} they are
+ * turned away. Registrations are never queued or shed.
+ */
+public class AdmissionControl {
+    public enum Admission {
+        ADMITTED, QUEUED, RATE_LIMITED, SHED
+    }
+
+    private final AdmissionProperties properties;
+    private final ClientRateLimiter limiter;
+    private final PoolWaitMonitor monitor;
+    private final ClubShardRouter router;
+    private final Semaphore queue;
+    private final LongAdder critical = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public AdmissionControl(AdmissionProperties properties, ClientRateLimiter limiter,
+                            PoolWaitMonitor monitor, ClubShardRouter router) {
+        if (properties.getQueueConcurrency() < 1) {
+            throw new IllegalArgumentException("Queue concurrency must be positive");
+        }
+        this.properties = properties;
+        this.limiter = limiter;
+        this.monitor = monitor;
+        this.router = router;
+        this.queue = new Semaphore(properties.getQueueConcurrency());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Admits the request or says why not. A {@code QUEUED} admission holds
+     * a slot until {@link #release} is called.
+     */
+    public Admission admit(Priority priority, String client) {
+        if (limiter.tryAcquire(client) > 0) {
+            return Admission.RATE_LIMITED;
+        }
+        if (priority == Priority.CRITICAL) {
+            critical.increment();
+            return Admission.ADMITTED;
+        }
+        LoadLevel level = priority == Priority.LOW
+                ? monitor.level(ShardingConfig.poolName(router.shardFor(ClubContext.current())))
+                : LoadLevel.NORMAL;
+        if (level == LoadLevel.NORMAL) {
+            admitted.increment();
+            return Admission.ADMITTED;
+        }
+        if (level == LoadLevel.QUEUEING && awaitSlot()) {
+            queued.increment();
+            return Admission.QUEUED;
+        }
+        shed.increment();
+        return Admission.SHED;
+    }
+
+    public void release(Admission admission) {
+        if (admission == Admission.QUEUED) {
+            queue.release();
+        }
+    }
+
+    public AdmissionStats stats() {
+        return new AdmissionStats(properties.isEnabled(), critical.sum(), admitted.sum(), queued.sum(), shed.sum(),
+                limiter.limited(), limiter.clients(), limiter.clientsAtLimit(), monitor.pressure());
+    }
+
+    private boolean awaitSlot() {
+        try {
+            return queue.tryAcquire(properties.getQueueTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.golfclub.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Runs {@link AdmissionControl} for every request once its club is known.
+ * Clients are told apart by the {@code X-Api-Key} header when it holds one
+ * of the configured keys, and by remote address otherwise, so a caller
+ * can't get a fresh bucket by making up a key.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class AdmissionFilter extends OncePerRequestFilter {
+    public static final String API_KEY_HEADER = "X-Api-Key";
+
+    private final AdmissionControl admissionControl;
+    private final Set<String> apiKeys;
+
+    public AdmissionFilter(AdmissionControl admissionControl, AdmissionProperties properties) {
+        this.admissionControl = admissionControl;
+        this.apiKeys = Set.copyOf(properties.getApiKeys());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!admissionControl.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        AdmissionControl.Admission admission = admissionControl.admit(
+                Priority.of(request.getMethod(), path), clientOf(request));
+        if (admission == AdmissionControl.Admission.RATE_LIMITED) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+            return;
+        }
+        if (admission == AdmissionControl.Admission.SHED) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, try again shortly");
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            admissionControl.release(admission);
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
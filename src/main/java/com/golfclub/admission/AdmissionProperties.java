@@ -0,0 +1,104 @@
+package com.golfclub.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Per-client rate limits and the connection-pool wait times at which
+ * low-priority reads are queued and then shed. Only the {@code apiKeys}
+ * listed here get a bucket of their own.
+ */
+@ConfigurationProperties("golfclub.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private double requestsPerSecond = 50;
+    private int burst = 100;
+    private int stripes = 16;
+    private int maxClients = 100_000;
+    private long queueWaitMs = 20;
+    private long shedWaitMs = 100;
+    private int queueConcurrency = 8;
+    private long queueTimeoutMs = 250;
+    private Set<String> apiKeys = new HashSet<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public long getQueueWaitMs() {
+        return queueWaitMs;
+    }
+
+    public void setQueueWaitMs(long queueWaitMs) {
+        this.queueWaitMs = queueWaitMs;
+    }
+
+    public long getShedWaitMs() {
+        return shedWaitMs;
+    }
+
+    public void setShedWaitMs(long shedWaitMs) {
+        this.shedWaitMs = shedWaitMs;
+    }
+
+    public int getQueueConcurrency() {
+        return queueConcurrency;
+    }
+
+    public void setQueueConcurrency(int queueConcurrency) {
+        this.queueConcurrency = queueConcurrency;
+    }
+
+    public long getQueueTimeoutMs() {
+        return queueTimeoutMs;
+    }
+
+    public void setQueueTimeoutMs(long queueTimeoutMs) {
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    public Set<String> getApiKeys() {
+        return apiKeys;
+    }
+
+    public void setApiKeys(Set<String> apiKeys) {
+        this.apiKeys = apiKeys;
+    }
+}
@@ -0,0 +1,19 @@
+package com.golfclub.admission;
+
+import java.util.Map;
+
+/**
+ * Admission counters since startup. {@code queued} reads were let in
+ * after waiting for a slot; {@code shed} ones were turned away with 503
+ * and {@code rateLimited} requests with 429.
+ */
+public record AdmissionStats(boolean enabled,
+                             long critical,
+                             long admitted,
+                             long queued,
+                             long shed,
+                             long rateLimited,
+                             int clients,
+                             int clientsAtLimit,
+                             Map<String, PoolPressure> pools) {
+}
@@ -0,0 +1,116 @@
+package com.golfclub.admission;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One {@link TokenBucket} per client, spread over independent stripes by
+ * the high bits of the client's hash. Taking a token is a map lookup and
+ * a compare-and-set; the client cap and the removal of idle buckets work
+ * a stripe at a time, so a flood of new client keys only ever touches
+ * one stripe. Clients beyond the cap share a single overflow bucket.
+ */
+public class ClientRateLimiter {
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int maxClientsPerStripe;
+    private final long interval;
+    private final long capacity;
+    private final TokenBucket overflow = new TokenBucket(System.nanoTime());
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder limited = new LongAdder();
+
+    public ClientRateLimiter(double requestsPerSecond, int burst, int stripes, int maxClients) {
+        if (requestsPerSecond <= 0 || burst < 1 || stripes < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate, burst, stripes and client limit must be positive");
+        }
+        int bits = 32 - Integer.numberOfLeadingZeros(stripes - 1);
+        this.stripes = new Stripe[1 << bits];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeShift = 32 - bits;
+        this.maxClientsPerStripe = Math.max(1, maxClients / this.stripes.length);
+        this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.capacity = interval * burst;
+    }
+
+    /**
+     * @return 0 if the client may proceed, else the nanos until it may
+     */
+    public long tryAcquire(String client) {
+        return tryAcquire(client, System.nanoTime());
+    }
+
+    long tryAcquire(String client, long now) {
+        Map<String, TokenBucket> buckets = stripeOf(client).buckets;
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClientsPerStripe) {
+                sweep(buckets, now);
+            }
+            bucket = buckets.size() < maxClientsPerStripe
+                    ? buckets.computeIfAbsent(client, key -> new TokenBucket(now))
+                    : overflow;
+        }
+        long wait = bucket.tryTake(now, interval, capacity);
+        (wait == 0 ? allowed : limited).increment();
+        return wait;
+    }
+
+    // A full bucket is indistinguishable from a new one, so dropping it loses nothing
+    @Scheduled(fixedDelayString = "${golfclub.admission.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            sweep(stripe.buckets, now);
+        }
+    }
+
+    public int clients() {
+        int clients = 0;
+        for (Stripe stripe : stripes) {
+            clients += stripe.buckets.size();
+        }
+        return clients;
+    }
+
+    /**
+     * Clients whose next request would be refused.
+     */
+    public int clientsAtLimit() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            for (TokenBucket bucket : stripe.buckets.values()) {
+                if (bucket.isEmpty(now, interval, capacity)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public long allowed() {
+        return allowed.sum();
+    }
+
+    public long limited() {
+        return limited.sum();
+    }
+
+    private Stripe stripeOf(String client) {
+        return stripes.length == 1 ? stripes[0] : stripes[(client.hashCode() * 0x9E3779B9) >>> stripeShift];
+    }
+
+    private static void sweep(Map<String, TokenBucket> buckets, long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static final class Stripe {
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,8 @@
+package com.golfclub.admission;
+
+/**
+ * How low-priority reads are treated, from the pool's connection wait time.
+ */
+public enum LoadLevel {
+    NORMAL, QUEUEING, SHEDDING
+}
@@ -0,0 +1,13 @@
+package com.golfclub.admission;
+
+/**
+ * One connection pool as admission control sees it. {@code waitMillis}
+ * is the smoothed time to get a connection.
+ */
+public record PoolPressure(double waitMillis,
+                           int pendingThreads,
+                           int activeConnections,
+                           int totalConnections,
+                           long timeouts,
+                           LoadLevel level) {
+}
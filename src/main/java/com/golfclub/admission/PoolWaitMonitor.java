@@ -0,0 +1,99 @@
+package com.golfclub.admission;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how long each Hikari pool makes callers wait for a connection,
+ * as a moving average over acquisitions (each new sample weighs 1/8).
+ * A connection timeout counts as a wait at the shedding threshold. With
+ * nobody waiting the average halves for every idle second, so a pool
+ * that stopped being asked for connections does not stay "busy".
+ */
+public class PoolWaitMonitor implements MetricsTrackerFactory {
+    private static final long IDLE_HALF_LIFE = TimeUnit.SECONDS.toNanos(1);
+
+    private final long queueWait;
+    private final long shedWait;
+    private final Map<String, PoolWait> pools = new ConcurrentHashMap<>();
+
+    public PoolWaitMonitor(long queueWaitMs, long shedWaitMs) {
+        if (queueWaitMs < 0 || shedWaitMs < queueWaitMs) {
+            throw new IllegalArgumentException("Shedding wait must be at least the queueing wait");
+        }
+        this.queueWait = TimeUnit.MILLISECONDS.toNanos(queueWaitMs);
+        this.shedWait = TimeUnit.MILLISECONDS.toNanos(shedWaitMs);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolWait wait = new PoolWait(poolStats);
+        pools.put(poolName, wait);
+        return wait;
+    }
+
+    /**
+     * NORMAL for a pool that has not started yet.
+     */
+    public LoadLevel level(String poolName) {
+        PoolWait wait = pools.get(poolName);
+        return wait == null ? LoadLevel.NORMAL : level(wait.estimate());
+    }
+
+    public Map<String, PoolPressure> pressure() {
+        Map<String, PoolPressure> pressure = new TreeMap<>();
+        pools.forEach((name, wait) -> {
+            long estimate = wait.estimate();
+            pressure.put(name, new PoolPressure(estimate / 1e6, wait.stats.getPendingThreads(),
+                    wait.stats.getActiveConnections(), wait.stats.getTotalConnections(),
+                    wait.timeouts.sum(), level(estimate)));
+        });
+        return pressure;
+    }
+
+    private LoadLevel level(long estimate) {
+        if (estimate >= shedWait) {
+            return LoadLevel.SHEDDING;
+        }
+        return estimate >= queueWait ? LoadLevel.QUEUEING : LoadLevel.NORMAL;
+    }
+
+    private final class PoolWait implements IMetricsTracker {
+        private final PoolStats stats;
+        private final AtomicLong average = new AtomicLong();
+        private final LongAdder timeouts = new LongAdder();
+        private volatile long lastSample = System.nanoTime();
+
+        PoolWait(PoolStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            average.accumulateAndGet(elapsedAcquiredNanos, (old, sample) -> old + (sample - old) / 8);
+            lastSample = System.nanoTime();
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            average.accumulateAndGet(shedWait, Math::max);
+            lastSample = System.nanoTime();
+        }
+
+        long estimate() {
+            long idle = System.nanoTime() - lastSample;
+            if (idle < IDLE_HALF_LIFE || stats.getPendingThreads() > 0) {
+                return average.get();
+            }
+            return average.get() >> Math.min(63, idle / IDLE_HALF_LIFE);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.golfclub.admission;
+
+import org.springframework.http.HttpMethod;
+import java.util.regex.Pattern;
+
+/**
+ * How a request is admitted. Everything is rate limited per client;
+ * plain reads are also queued or shed when the database is struggling,
+ * while registrations, other writes and the admin API never are.
+ * Registrations are counted separately in the stats.
+ */
+public enum Priority {
+    CRITICAL, NORMAL, LOW;
+
+    private static final Pattern REGISTRATION = Pattern.compile("/api/v1/tournaments/\\d+/members/\\d+/?");
+
+    public static Priority of(String method, String path) {
+        if (HttpMethod.POST.matches(method) && REGISTRATION.matcher(path).matches()) {
+            return CRITICAL;
+        }
+        if ((HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method))
+                && !path.startsWith("/api/v1/admin/")) {
+            return LOW;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,48 @@
+package com.golfclub.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept as one timestamp: the time at which the bucket
+ * would be full again (the generic cell rate algorithm). Taking a token
+ * pushes that time one interval further out, and is refused while it is
+ * more than the burst ahead of now. One compare-and-set per request, no
+ * refill thread.
+ */
+final class TokenBucket {
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @param interval nanos per token
+     * @param capacity nanos covered by a full bucket, i.e. burst times interval
+     * @return 0 if a token was taken, else the nanos until one will be available
+     */
+    long tryTake(long now, long interval, long capacity) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            long excess = next - now - capacity;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+
+    /**
+     * Whether the next request would be refused.
+     */
+    boolean isEmpty(long now, long interval, long capacity) {
+        return fullAt.get() - now + interval > capacity;
+    }
+}
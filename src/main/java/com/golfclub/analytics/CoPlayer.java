@@ -0,0 +1,7 @@
+package com.golfclub.analytics;
+
+/**
+ * A member and how many tournaments they played with the member asked about.
+ */
+public record CoPlayer(long memberId, int sharedTournaments) {
+}
@@ -0,0 +1,15 @@
+package com.golfclub.analytics;
+
+import java.util.Map;
+
+/**
+ * How many members registered for each number of tournaments, and how
+ * many tournaments had each field size. Members and tournaments without
+ * registrations are not counted.
+ */
+public record ParticipationHistogram(int members,
+                                     int tournaments,
+                                     int registrations,
+                                     Map<Integer, Integer> membersByTournamentCount,
+                                     Map<Integer, Integer> tournamentsByFieldSize) {
+}
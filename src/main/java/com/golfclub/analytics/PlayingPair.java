@@ -0,0 +1,7 @@
+package com.golfclub.analytics;
+
+/**
+ * Two members who registered for the same tournaments; {@code memberId} is the smaller id.
+ */
+public record PlayingPair(long memberId, long partnerId, int sharedTournaments) {
+}
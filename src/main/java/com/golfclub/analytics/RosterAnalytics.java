@@ -0,0 +1,199 @@
+package com.golfclub.analytics;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Co-participation queries over a {@link RosterGraph}. Queries about one
+ * member or tournament only walk its two-hop neighbourhood; club-wide
+ * queries split the members across the fork-join pool. Neighbour counts
+ * are taken by sorting the gathered indices rather than with a counter
+ * per member, so a query allocates in proportion to what it visits.
+ */
+@Component
+public class RosterAnalytics {
+    private static final Comparator<PlayingPair> BY_SHARED = Comparator
+            .comparingInt(PlayingPair::sharedTournaments)
+            .thenComparing(PlayingPair::memberId, Comparator.reverseOrder())
+            .thenComparing(PlayingPair::partnerId, Comparator.reverseOrder());
+
+    private final ForkJoinPool pool;
+
+    public RosterAnalytics(@Value("${golfclub.analytics.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Members who registered for the most tournaments together with the
+     * given member, most shared first.
+     */
+    public List<CoPlayer> coPlayers(RosterGraph graph, long memberId, int limit) {
+        int member = graph.memberIndex(memberId);
+        if (member < 0) {
+            return List.of();
+        }
+        int[] partners = partnersOf(graph, member, false);
+        List<CoPlayer> coPlayers = new ArrayList<>();
+        forEachRun(partners, (partner, count) -> coPlayers.add(new CoPlayer(graph.memberId(partner), count)));
+        coPlayers.sort(Comparator.comparingInt(CoPlayer::sharedTournaments).reversed()
+                .thenComparingLong(CoPlayer::memberId));
+        return coPlayers.subList(0, Math.min(limit, coPlayers.size()));
+    }
+
+    /**
+     * Pairs of members who registered for at least {@code minShared}
+     * tournaments together, most shared first, across the whole club.
+     */
+    public List<PlayingPair> frequentPairs(RosterGraph graph, int minShared, int limit) {
+        List<PlayingPair> top = new ArrayList<>(run(() -> IntStream.range(0, graph.memberCount()).parallel()
+                .collect(() -> new PriorityQueue<PlayingPair>(BY_SHARED),
+                        (heap, member) -> forEachRun(partnersOf(graph, member, true), (partner, count) -> {
+                            if (count >= minShared) {
+                                offer(heap, pair(graph.memberId(member), graph.memberId(partner), count), limit);
+                            }
+                        }),
+                        (heap, other) -> other.forEach(pair -> offer(heap, pair, limit)))));
+        top.sort(BY_SHARED.reversed());
+        return top;
+    }
+
+    /**
+     * Tournaments whose fields overlap most with the given tournament's,
+     * by Jaccard index.
+     */
+    public List<SimilarTournament> similarTournaments(RosterGraph graph, long tournamentId, int limit) {
+        int tournament = graph.tournamentIndex(tournamentId);
+        if (tournament < 0) {
+            return List.of();
+        }
+        int fieldSize = graph.tournamentDegree(tournament);
+        int total = 0;
+        for (int k = 0; k < fieldSize; k++) {
+            total += graph.memberDegree(graph.memberOf(tournament, k));
+        }
+        int[] others = new int[total];
+        int size = 0;
+        for (int k = 0; k < fieldSize; k++) {
+            int member = graph.memberOf(tournament, k);
+            for (int j = 0; j < graph.memberDegree(member); j++) {
+                int other = graph.tournamentOf(member, j);
+                if (other != tournament) {
+                    others[size++] = other;
+                }
+            }
+        }
+        int[] sorted = Arrays.copyOf(others, size);
+        Arrays.sort(sorted);
+
+        List<SimilarTournament> similar = new ArrayList<>();
+        forEachRun(sorted, (other, shared) -> similar.add(new SimilarTournament(
+                graph.tournamentId(other), shared,
+                (double) shared / (fieldSize + graph.tournamentDegree(other) - shared))));
+        similar.sort(Comparator.comparingDouble(SimilarTournament::similarity).reversed()
+                .thenComparingLong(SimilarTournament::tournamentId));
+        return similar.subList(0, Math.min(limit, similar.size()));
+    }
+
+    public ParticipationHistogram participationHistogram(RosterGraph graph) {
+        return run(() -> new ParticipationHistogram(graph.activeMemberCount(), graph.activeTournamentCount(),
+                graph.edgeCount(),
+                histogram(IntStream.range(0, graph.memberCount()).parallel().map(graph::memberDegree).toArray()),
+                histogram(IntStream.range(0, graph.tournamentCount()).parallel().map(graph::tournamentDegree).toArray())));
+    }
+
+    /**
+     * Co-players of the member, one entry per shared tournament, sorted.
+     * With {@code higherOnly} only members with a larger index are kept,
+     * so a club-wide scan sees every pair once.
+     */
+    private static int[] partnersOf(RosterGraph graph, int member, boolean higherOnly) {
+        int total = 0;
+        for (int k = 0; k < graph.memberDegree(member); k++) {
+            total += graph.tournamentDegree(graph.tournamentOf(member, k));
+        }
+        int[] partners = new int[total];
+        int size = 0;
+        for (int k = 0; k < graph.memberDegree(member); k++) {
+            int tournament = graph.tournamentOf(member, k);
+            for (int j = 0; j < graph.tournamentDegree(tournament); j++) {
+                int partner = graph.memberOf(tournament, j);
+                if (higherOnly ? partner > member : partner != member) {
+                    partners[size++] = partner;
+                }
+            }
+        }
+        int[] result = Arrays.copyOf(partners, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static void forEachRun(int[] sorted, RunVisitor visitor) {
+        for (int start = 0, end; start < sorted.length; start = end) {
+            end = start + 1;
+            while (end < sorted.length && sorted[end] == sorted[start]) {
+                end++;
+            }
+            visitor.visit(sorted[start], end - start);
+        }
+    }
+
+    // Members added since the graph was laid out have higher indices than their ids suggest
+    private static PlayingPair pair(long memberId, long partnerId, int shared) {
+        return memberId < partnerId
+                ? new PlayingPair(memberId, partnerId, shared)
+                : new PlayingPair(partnerId, memberId, shared);
+    }
+
+    // Keeps the heap at the best `limit` pairs; its head is the weakest
+    private static void offer(PriorityQueue<PlayingPair> heap, PlayingPair pair, int limit) {
+        if (heap.size() < limit) {
+            heap.add(pair);
+        } else if (BY_SHARED.compare(pair, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(pair);
+        }
+    }
+
+    private static Map<Integer, Integer> histogram(int[] degrees) {
+        Map<Integer, Integer> histogram = new TreeMap<>();
+        for (int degree : degrees) {
+            if (degree > 0) {
+                histogram.merge(degree, 1, Integer::sum);
+            }
+        }
+        return histogram;
+    }
+
+    private <T> T run(Callable<T> task) {
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Roster analytics was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Roster analytics failed", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunVisitor {
+        void visit(int value, int count);
+    }
+}
@@ -0,0 +1,484 @@
+package com.golfclub.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Bipartite member/tournament registration graph in compressed sparse row
+ * form. Members and tournaments are numbered in id order; each side has an
+ * offsets array and an edge array holding indices into the other side,
+ * sorted within each row. A registration therefore costs 8 bytes (4 per
+ * direction) plus the per-vertex ids and offsets. The edge arrays can be
+ * kept off-heap. Immutable and safe to read from many threads; see
+ * {@link Builder}.
+ * <p>
+ * {@link #withChanges} lays registrations made since the build over the
+ * arrays without rebuilding them: the rows the changes touch are copied
+ * and edited, new members and tournaments get the indices after the
+ * existing ones, and everything else is still read from the arrays.
+ * Indices run up to {@link #memberCount} and {@link #tournamentCount};
+ * a member or tournament that lost every registration keeps its index
+ * with degree 0 until {@link #compact} lays the graph out again.
+ */
+public final class RosterGraph {
+    private final long[] memberIds;
+    private final long[] tournamentIds;
+    private final int[] memberOffsets;
+    private final IntBuffer memberEdges;
+    private final int[] tournamentOffsets;
+    private final IntBuffer tournamentEdges;
+    private final boolean offHeap;
+    private final Overlay overlay;
+
+    private RosterGraph(long[] memberIds, long[] tournamentIds, int[] memberOffsets, IntBuffer memberEdges,
+                        int[] tournamentOffsets, IntBuffer tournamentEdges, boolean offHeap, Overlay overlay) {
+        this.memberIds = memberIds;
+        this.tournamentIds = tournamentIds;
+        this.memberOffsets = memberOffsets;
+        this.memberEdges = memberEdges;
+        this.tournamentOffsets = tournamentOffsets;
+        this.tournamentEdges = tournamentEdges;
+        this.offHeap = offHeap;
+        this.overlay = overlay;
+    }
+
+    public int memberCount() {
+        return memberIds.length + overlay.addedMemberIds.length;
+    }
+
+    public int tournamentCount() {
+        return tournamentIds.length + overlay.addedTournamentIds.length;
+    }
+
+    /**
+     * Members with at least one registration.
+     */
+    public int activeMemberCount() {
+        return memberCount() - overlay.emptyMembers;
+    }
+
+    /**
+     * Tournaments with at least one registration.
+     */
+    public int activeTournamentCount() {
+        return tournamentCount() - overlay.emptyTournaments;
+    }
+
+    public int edgeCount() {
+        return memberOffsets[memberIds.length] + overlay.addedEdges;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Bytes held by the ids, offsets and edge arrays.
+     */
+    public long footprintBytes() {
+        return 8L * (memberIds.length + tournamentIds.length)
+                + 4L * (memberOffsets.length + tournamentOffsets.length)
+                + 8L * memberOffsets[memberIds.length]
+                + overlay.footprintBytes();
+    }
+
+    /**
+     * @return the member's index, or -1 if the member has no registrations
+     */
+    public int memberIndex(long memberId) {
+        int index = Arrays.binarySearch(memberIds, memberId);
+        if (index >= 0) {
+            return index;
+        }
+        index = Arrays.binarySearch(overlay.addedMemberIds, memberId);
+        return index >= 0 ? memberIds.length + index : -1;
+    }
+
+    /**
+     * @return the tournament's index, or -1 if it has no registrations
+     */
+    public int tournamentIndex(long tournamentId) {
+        int index = Arrays.binarySearch(tournamentIds, tournamentId);
+        if (index >= 0) {
+            return index;
+        }
+        index = Arrays.binarySearch(overlay.addedTournamentIds, tournamentId);
+        return index >= 0 ? tournamentIds.length + index : -1;
+    }
+
+    public long memberId(int member) {
+        return member < memberIds.length ? memberIds[member] : overlay.addedMemberIds[member - memberIds.length];
+    }
+
+    public long tournamentId(int tournament) {
+        return tournament < tournamentIds.length
+                ? tournamentIds[tournament]
+                : overlay.addedTournamentIds[tournament - tournamentIds.length];
+    }
+
+    public int memberDegree(int member) {
+        int[] row = overlay.memberRow(member);
+        return row != null ? row.length : memberOffsets[member + 1] - memberOffsets[member];
+    }
+
+    public int tournamentDegree(int tournament) {
+        int[] row = overlay.tournamentRow(tournament);
+        return row != null ? row.length : tournamentOffsets[tournament + 1] - tournamentOffsets[tournament];
+    }
+
+    /**
+     * The {@code k}-th tournament of the member, by tournament index.
+     */
+    public int tournamentOf(int member, int k) {
+        int[] row = overlay.memberRow(member);
+        return row != null ? row[k] : memberEdges.get(memberOffsets[member] + k);
+    }
+
+    /**
+     * The {@code k}-th member of the tournament, by member index.
+     */
+    public int memberOf(int tournament, int k) {
+        int[] row = overlay.tournamentRow(tournament);
+        return row != null ? row[k] : tournamentEdges.get(tournamentOffsets[tournament] + k);
+    }
+
+    public void forEachEdge(EdgeVisitor visitor) {
+        for (int member = 0; member < memberCount(); member++) {
+            for (int k = 0; k < memberDegree(member); k++) {
+                visitor.visit(memberId(member), tournamentId(tournamentOf(member, k)));
+            }
+        }
+    }
+
+    /**
+     * This graph with {@code changes} laid over its arrays. Costs time and
+     * memory in proportion to the changes and the rows they touch, not to
+     * the graph. Only a built or compacted graph takes changes.
+     */
+    public RosterGraph withChanges(Changes changes) {
+        if (overlay != Overlay.NONE) {
+            throw new IllegalStateException("Changes can only be laid over a compacted graph");
+        }
+        // Removing a tournament removes its whole field; registrations for it are ignored
+        Map<Integer, RowEdit> memberEdits = new HashMap<>();
+        Map<Integer, RowEdit> tournamentEdits = new HashMap<>();
+        for (long tournamentId : changes.removedTournaments) {
+            int tournament = tournamentIndex(tournamentId);
+            if (tournament < 0) {
+                continue;
+            }
+            for (int k = 0; k < tournamentDegree(tournament); k++) {
+                int member = memberOf(tournament, k);
+                edit(memberEdits, member).removed.add(tournament);
+                edit(tournamentEdits, tournament).removed.add(member);
+            }
+        }
+
+        Set<Long> newMembers = new HashSet<>();
+        Set<Long> newTournaments = new HashSet<>();
+        changes.registrations.forEach((edge, registered) -> {
+            if (registered && !changes.removedTournaments.contains(edge.tournamentId())) {
+                if (memberIndex(edge.memberId()) < 0) {
+                    newMembers.add(edge.memberId());
+                }
+                if (tournamentIndex(edge.tournamentId()) < 0) {
+                    newTournaments.add(edge.tournamentId());
+                }
+            }
+        });
+        long[] addedMemberIds = newMembers.stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] addedTournamentIds = newTournaments.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        changes.registrations.forEach((edge, registered) -> {
+            if (changes.removedTournaments.contains(edge.tournamentId())) {
+                return;
+            }
+            int member = memberIndex(edge.memberId());
+            int tournament = tournamentIndex(edge.tournamentId());
+            boolean present = member >= 0 && tournament >= 0 && hasEdge(member, tournament);
+            if (registered && !present) {
+                member = member >= 0 ? member : memberIds.length + Arrays.binarySearch(addedMemberIds, edge.memberId());
+                tournament = tournament >= 0
+                        ? tournament
+                        : tournamentIds.length + Arrays.binarySearch(addedTournamentIds, edge.tournamentId());
+                edit(memberEdits, member).added.add(tournament);
+                edit(tournamentEdits, tournament).added.add(member);
+            } else if (!registered && present) {
+                edit(memberEdits, member).removed.add(tournament);
+                edit(tournamentEdits, tournament).removed.add(member);
+            }
+        });
+        if (memberEdits.isEmpty()) {
+            return this;
+        }
+
+        Rows memberRows = rows(memberEdits, true);
+        Rows tournamentRows = rows(tournamentEdits, false);
+        int addedEdges = 0;
+        for (int i = 0; i < memberRows.indices.length; i++) {
+            int member = memberRows.indices[i];
+            addedEdges += memberRows.rows[i].length
+                    - (member < memberIds.length ? memberOffsets[member + 1] - memberOffsets[member] : 0);
+        }
+        return new RosterGraph(memberIds, tournamentIds, memberOffsets, memberEdges, tournamentOffsets,
+                tournamentEdges, offHeap, new Overlay(addedMemberIds, addedTournamentIds, memberRows,
+                tournamentRows, addedEdges));
+    }
+
+    /**
+     * The same registrations laid out as a fresh graph, without an overlay.
+     */
+    public RosterGraph compact() {
+        Builder builder = new Builder(offHeap);
+        forEachEdge(builder::add);
+        return builder.build();
+    }
+
+    // Rows are sorted, so this is a binary search of the member's row
+    private boolean hasEdge(int member, int tournament) {
+        int low = memberOffsets[member];
+        int high = memberOffsets[member + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = memberEdges.get(mid);
+            if (value < tournament) {
+                low = mid + 1;
+            } else if (value > tournament) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RowEdit edit(Map<Integer, RowEdit> edits, int index) {
+        return edits.computeIfAbsent(index, key -> new RowEdit());
+    }
+
+    private Rows rows(Map<Integer, RowEdit> edits, boolean members) {
+        Map<Integer, RowEdit> sorted = new TreeMap<>(edits);
+        int[] indices = new int[sorted.size()];
+        int[][] rows = new int[sorted.size()][];
+        int i = 0;
+        for (Map.Entry<Integer, RowEdit> entry : sorted.entrySet()) {
+            int index = entry.getKey();
+            RowEdit edit = entry.getValue();
+            List<Integer> row = new ArrayList<>(edit.added);
+            int existing = members ? memberIds.length : tournamentIds.length;
+            if (index < existing) {
+                int[] offsets = members ? memberOffsets : tournamentOffsets;
+                IntBuffer edges = members ? memberEdges : tournamentEdges;
+                for (int e = offsets[index]; e < offsets[index + 1]; e++) {
+                    if (!edit.removed.contains(edges.get(e))) {
+                        row.add(edges.get(e));
+                    }
+                }
+            }
+            indices[i] = index;
+            rows[i++] = row.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+        return new Rows(indices, rows);
+    }
+
+    @FunctionalInterface
+    public interface EdgeVisitor {
+        void visit(long memberId, long tournamentId);
+    }
+
+    /**
+     * Registration changes to lay over a graph with {@link #withChanges}.
+     * The last change to a registration wins. Not thread-safe.
+     */
+    public static final class Changes {
+        private final Map<Edge, Boolean> registrations = new HashMap<>();
+        private final Set<Long> removedTournaments = new HashSet<>();
+
+        public void register(long memberId, long tournamentId) {
+            registrations.put(new Edge(memberId, tournamentId), true);
+        }
+
+        public void unregister(long memberId, long tournamentId) {
+            registrations.put(new Edge(memberId, tournamentId), false);
+        }
+
+        public void removeTournament(long tournamentId) {
+            removedTournaments.add(tournamentId);
+        }
+    }
+
+    private record Edge(long memberId, long tournamentId) {
+    }
+
+    private static final class RowEdit {
+        private final Set<Integer> added = new HashSet<>();
+        private final Set<Integer> removed = new HashSet<>();
+    }
+
+    // Replaced rows, by ascending vertex index
+    private record Rows(int[] indices, int[][] rows) {
+        static final Rows NONE = new Rows(new int[0], new int[0][]);
+
+        int[] row(int index) {
+            if (indices.length == 0) {
+                return null;
+            }
+            int i = Arrays.binarySearch(indices, index);
+            return i >= 0 ? rows[i] : null;
+        }
+
+        int emptyRows() {
+            int empty = 0;
+            for (int[] row : rows) {
+                if (row.length == 0) {
+                    empty++;
+                }
+            }
+            return empty;
+        }
+
+        long footprintBytes() {
+            long bytes = 4L * indices.length;
+            for (int[] row : rows) {
+                bytes += 16 + 4L * row.length;
+            }
+            return bytes;
+        }
+    }
+
+    private static final class Overlay {
+        static final Overlay NONE = new Overlay(new long[0], new long[0], Rows.NONE, Rows.NONE, 0);
+
+        private final long[] addedMemberIds;
+        private final long[] addedTournamentIds;
+        private final Rows memberRows;
+        private final Rows tournamentRows;
+        private final int addedEdges;
+        private final int emptyMembers;
+        private final int emptyTournaments;
+
+        Overlay(long[] addedMemberIds, long[] addedTournamentIds, Rows memberRows, Rows tournamentRows,
+                int addedEdges) {
+            this.addedMemberIds = addedMemberIds;
+            this.addedTournamentIds = addedTournamentIds;
+            this.memberRows = memberRows;
+            this.tournamentRows = tournamentRows;
+            this.addedEdges = addedEdges;
+            this.emptyMembers = memberRows.emptyRows();
+            this.emptyTournaments = tournamentRows.emptyRows();
+        }
+
+        int[] memberRow(int member) {
+            return memberRows.row(member);
+        }
+
+        int[] tournamentRow(int tournament) {
+            return tournamentRows.row(tournament);
+        }
+
+        long footprintBytes() {
+            return 8L * (addedMemberIds.length + addedTournamentIds.length)
+                    + memberRows.footprintBytes() + tournamentRows.footprintBytes();
+        }
+    }
+
+    /**
+     * Collects (member id, tournament id) pairs in any order, duplicates
+     * allowed, and lays them out as a graph. Holds 16 bytes per pair until
+     * {@link #build} returns. Single use.
+     */
+    public static final class Builder {
+        private final boolean offHeap;
+        private long[] members = new long[1024];
+        private long[] tournaments = new long[1024];
+        private int size;
+
+        public Builder(boolean offHeap) {
+            this.offHeap = offHeap;
+        }
+
+        public void add(long memberId, long tournamentId) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+                tournaments = Arrays.copyOf(tournaments, size * 2);
+            }
+            members[size] = memberId;
+            tournaments[size] = tournamentId;
+            size++;
+        }
+
+        public RosterGraph build() {
+            long[] memberIds = distinctSorted(members, size);
+            long[] tournamentIds = distinctSorted(tournaments, size);
+
+            // Sorting (member, tournament) index pairs packed into one long orders
+            // the member rows and puts duplicates next to each other
+            long[] keys = new long[size];
+            for (int e = 0; e < size; e++) {
+                keys[e] = (long) Arrays.binarySearch(memberIds, members[e]) << 32
+                        | Arrays.binarySearch(tournamentIds, tournaments[e]);
+            }
+            members = null;
+            tournaments = null;
+            Arrays.parallelSort(keys);
+            int edges = 0;
+            for (int e = 0; e < keys.length; e++) {
+                if (e == 0 || keys[e] != keys[e - 1]) {
+                    keys[edges++] = keys[e];
+                }
+            }
+
+            int[] memberOffsets = new int[memberIds.length + 1];
+            int[] tournamentOffsets = new int[tournamentIds.length + 1];
+            int[] memberEdges = new int[edges];
+            for (int e = 0; e < edges; e++) {
+                memberOffsets[(int) (keys[e] >>> 32) + 1]++;
+                tournamentOffsets[(int) keys[e] + 1]++;
+                memberEdges[e] = (int) keys[e];
+            }
+            Arrays.parallelPrefix(memberOffsets, Integer::sum);
+            Arrays.parallelPrefix(tournamentOffsets, Integer::sum);
+
+            // Keys are in member order, so each tournament row comes out sorted too
+            int[] tournamentEdges = new int[edges];
+            int[] next = Arrays.copyOf(tournamentOffsets, tournamentIds.length);
+            for (int e = 0; e < edges; e++) {
+                tournamentEdges[next[(int) keys[e]]++] = (int) (keys[e] >>> 32);
+            }
+            return new RosterGraph(memberIds, tournamentIds, memberOffsets, store(memberEdges),
+                    tournamentOffsets, store(tournamentEdges), offHeap, Overlay.NONE);
+        }
+
+        private IntBuffer store(int[] values) {
+            if (!offHeap) {
+                return IntBuffer.wrap(values);
+            }
+            IntBuffer buffer = ByteBuffer.allocateDirect(values.length * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            buffer.put(values);
+            return buffer;
+        }
+
+        private static long[] distinctSorted(long[] values, int length) {
+            long[] sorted = Arrays.copyOf(values, length);
+            Arrays.parallelSort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.golfclub.analytics;
+
+/**
+ * Size of a club's roster graph.
+ */
+public record RosterGraphStats(int members, int tournaments, int registrations, long footprintBytes,
+                               boolean offHeap) {
+
+    public static RosterGraphStats of(RosterGraph graph) {
+        return new RosterGraphStats(graph.activeMemberCount(), graph.activeTournamentCount(), graph.edgeCount(),
+                graph.footprintBytes(), graph.isOffHeap());
+    }
+}
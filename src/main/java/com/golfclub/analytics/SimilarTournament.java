@@ -0,0 +1,8 @@
+package com.golfclub.analytics;
+
+/**
+ * A tournament sharing part of its field with the one asked about.
+ * {@code similarity} is the Jaccard index of the two fields.
+ */
+public record SimilarTournament(long tournamentId, int sharedMembers, double similarity) {
+}
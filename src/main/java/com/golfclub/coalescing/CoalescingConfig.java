@@ -0,0 +1,16 @@
+package com.golfclub.coalescing;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+    @Bean
+    public ReadCoalescer readCoalescer(CoalescingProperties properties, PlatformTransactionManager transactionManager) {
+        return new ReadCoalescer(properties, transactionManager);
+    }
+}
@@ -0,0 +1,59 @@
+package com.golfclub.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Switches for read coalescing. {@code enabled} is the default for every
+ * method; {@code methods.<name>.enabled} overrides it for one method.
+ * {@code maxConcurrentQueries} caps the worker threads and should not
+ * exceed the connection pool.
+ */
+@ConfigurationProperties("golfclub.coalescing")
+public class CoalescingProperties {
+    private boolean enabled = true;
+    private int maxConcurrentQueries = 10;
+    private Map<String, Method> methods = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrentQueries() {
+        return maxConcurrentQueries;
+    }
+
+    public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+        this.maxConcurrentQueries = maxConcurrentQueries;
+    }
+
+    public Map<String, Method> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(Map<String, Method> methods) {
+        this.methods = methods;
+    }
+
+    public boolean isEnabled(String method) {
+        Method settings = methods.get(method);
+        return settings != null && settings.getEnabled() != null ? settings.getEnabled() : enabled;
+    }
+
+    public static class Method {
+        private Boolean enabled;
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.golfclub.coalescing;
+
+/**
+ * Counters for one coalesced method since startup. {@code coalesced}
+ * calls were answered by a query another caller had already started.
+ */
+public record CoalescingStats(long calls, long executions, long coalesced, long failures, int inFlight) {
+}
@@ -0,0 +1,139 @@
+package com.golfclub.coalescing;
+
+import com.golfclub.sharding.ClubContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for hot read queries. While a query for a method, club
+ * and argument is running, identical calls wait for it and share its
+ * result instead of running their own; the next call after it finishes
+ * starts a fresh query, so nothing is cached.
+ * <p>
+ * The query runs on a worker thread in its own read-only transaction,
+ * like {@code ShardQueryExecutor}, so the result is detached rather than
+ * tied to the first caller's open session. Queries must therefore fetch
+ * everything the callers will read, and callers must treat the shared
+ * result as read-only. Callers should not hold a transaction of their
+ * own while they wait, or each waiter keeps a pooled connection busy.
+ * <p>
+ * At most {@code max-concurrent-queries} queries run at once, so the
+ * workers never ask for more connections than the pool holds; further
+ * queries wait in line. Every queued query has a caller blocked on it,
+ * so the line is bounded by the request threads.
+ */
+public class ReadCoalescer {
+    private final CoalescingProperties properties;
+    private final TransactionTemplate readOnly;
+    private final ExecutorService executor;
+    private final Map<FlightKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(CoalescingProperties properties, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        int workers = properties.getMaxConcurrentQueries();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "coalesced-read");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    /**
+     * Runs {@code query} for the current club, or joins the identical
+     * query already in flight.
+     *
+     * @param method   name of the read method, as used in {@code golfclub.coalescing.methods}
+     * @param argument what distinguishes one call of the method from another; may be null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String method, Object argument, Supplier<T> query) {
+        Counters methodCounters = counters.computeIfAbsent(method, key -> new Counters());
+        methodCounters.calls.increment();
+        if (!properties.isEnabled(method)) {
+            methodCounters.executions.increment();
+            return readOnly.execute(status -> query.get());
+        }
+
+        String clubId = ClubContext.current();
+        FlightKey key = new FlightKey(method, clubId, argument);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            methodCounters.coalesced.increment();
+            return (T) await(running);
+        }
+
+        methodCounters.executions.increment();
+        executor.execute(() -> {
+            try {
+                flight.complete(ClubContext.callAs(clubId, () -> readOnly.execute(status -> query.get())));
+            } catch (Throwable e) {
+                methodCounters.failures.increment();
+                flight.completeExceptionally(e);
+            } finally {
+                flights.remove(key, flight);
+            }
+        });
+        return (T) await(flight);
+    }
+
+    /**
+     * Counters per method, by method name.
+     */
+    public Map<String, CoalescingStats> stats() {
+        Map<String, Integer> inFlight = new TreeMap<>();
+        flights.keySet().forEach(key -> inFlight.merge(key.method(), 1, Integer::sum));
+        Map<String, CoalescingStats> stats = new TreeMap<>();
+        counters.forEach((method, c) -> stats.put(method, new CoalescingStats(c.calls.sum(), c.executions.sum(),
+                c.coalesced.sum(), c.failures.sum(), inFlight.getOrDefault(method, 0))));
+        return stats;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Waiters see the query's own exception, as if they had run it
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Coalesced read failed", e.getCause());
+        }
+    }
+
+    private record FlightKey(String method, String clubId, Object argument) {
+    }
+
+    private static final class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,73 @@
+package com.golfclub.config;
+
+import com.golfclub.analytics.CoPlayer;
+import com.golfclub.analytics.ParticipationHistogram;
+import com.golfclub.analytics.PlayingPair;
+import com.golfclub.analytics.RosterGraphStats;
+import com.golfclub.analytics.SimilarTournament;
+import com.golfclub.coalescing.CoalescingStats;
+import com.golfclub.model.ArchivedTournament;
+import com.golfclub.model.HoleScore;
+import com.golfclub.model.LeaderboardEntry;
+import com.golfclub.model.Member;
+import com.golfclub.model.ParticipantSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.model.WaitlistEntry;
+import com.golfclub.repository.ArchivedTournamentRepo;
+import com.golfclub.repository.MemberRepo;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.repository.WaitlistRepo;
+import com.golfclub.scheduling.Flight;
+import com.golfclub.scheduling.PairingPlan;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+/**
+ * GraalVM native-image hints for the parts of the application that are
+ * reached through reflection: Hibernate entity access, the Spring Data
+ * repository proxies and Jackson (de)serialization of the API models.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHints.Registrar.class)
+@RegisterReflectionForBinding({Member.class, Tournament.class, WaitlistEntry.class,
+        HoleScore.class, LeaderboardEntry.class, CoPlayer.class, PlayingPair.class, SimilarTournament.class,
+        ParticipationHistogram.class, RosterGraphStats.class,
+        TournamentCalendarEntry.class, PairingPlan.class, Flight.class, Flight.Player.class,
+        ParticipantSummary.class, CoalescingStats.class})
+public class NativeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : new Class<?>[]{Member.class, Tournament.class, WaitlistEntry.class,
+                    ArchivedTournament.class, Member.MembershipStatus.class, Tournament.TournamentStatus.class}) {
+                hints.reflection().registerType(type, MemberCategory.values());
+            }
+
+            for (Class<?> repository : new Class<?>[]{MemberRepo.class, TournamentRepo.class, WaitlistRepo.class,
+                    ArchivedTournamentRepo.class}) {
+                hints.proxies().registerJdkProxy(
+                        TypeReference.of(repository),
+                        TypeReference.of(Repository.class),
+                        TypeReference.of(TransactionalProxy.class),
+                        TypeReference.of(SpringProxy.class),
+                        TypeReference.of(Advised.class),
+                        TypeReference.of(DecoratingProxy.class));
+            }
+
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.golfclub.config;
+
+import com.golfclub.logging.SlowQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+
+@Configuration
+public class SlowQueryLogConfig {
+
+    /**
+     * Wraps the DataSource with a timing proxy when
+     * {@code golfclub.slow-query.enabled} is set (the prod profile does).
+     */
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("golfclub.slow-query.enabled", Boolean.class, false);
+        long thresholdMs = environment.getProperty("golfclub.slow-query.threshold-ms", Long.class, 200L);
+        double sampleRate = environment.getProperty("golfclub.slow-query.sample-rate", Double.class, 1.0);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SlowQueryListener(thresholdMs, sampleRate))
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfclub.config;
+
+import com.golfclub.service.TournamentArchiver;
+import com.golfclub.sharding.ClubShardRouter;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+    // Tables whose generated ids are referenced across shards
+    private static final List<String> ID_TABLES = List.of("members", "tournaments", "tournament_waitlist");
+
+    /**
+     * Beans that must still be created at startup when the fast-start
+     * profile turns on lazy initialization. Scheduled jobs are only
+     * registered once their bean exists.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class, TournamentArchiver.class);
+    }
+
+    /**
+     * Checked at runtime rather than through {@code spring.flyway.enabled},
+     * which AOT processing fixes at build time. Every shard gets the same
+     * migrations, then has its id counters moved up to its id offset.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${golfclub.flyway.migrate-on-startup:true}") boolean migrateOnStartup, ClubShardRouter router) {
+        return flyway -> {
+            if (!migrateOnStartup) {
+                return;
+            }
+            for (String shard : router.shardNames()) {
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(router.dataSource(shard))
+                        .load()
+                        .migrate();
+                applyIdOffset(new JdbcTemplate(router.dataSource(shard)), router.idOffset(shard));
+            }
+        };
+    }
+
+    private static void applyIdOffset(JdbcTemplate jdbc, long idOffset) {
+        if (idOffset <= 0) {
+            return;
+        }
+        for (String table : ID_TABLES) {
+            Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId < idOffset) {
+                jdbc.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + idOffset);
+            }
+        }
+    }
+}
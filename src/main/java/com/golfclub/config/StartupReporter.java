@@ -0,0 +1,75 @@
+package com.golfclub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Logs how long startup took and, for CDS training and the startup
+ * benchmark, writes the numbers to a file and shuts the application down.
+ */
+@Component
+public class StartupReporter implements ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger log = LoggerFactory.getLogger(StartupReporter.class);
+
+    private final boolean exitOnReady;
+    private final String reportFile;
+
+    public StartupReporter(@Value("${golfclub.startup.exit-on-ready:false}") boolean exitOnReady,
+                           @Value("${golfclub.startup.report-file:}") String reportFile) {
+        this.exitOnReady = exitOnReady;
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        long contextStartup = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+        log.info("Application ready: context {} ms, JVM uptime {} ms", contextStartup, jvmUptime);
+
+        if (!reportFile.isBlank()) {
+            writeReport(jvmUptime, contextStartup);
+        }
+        if (exitOnReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void writeReport(long jvmUptime, long contextStartup) {
+        Properties report = new Properties();
+        report.setProperty("jvm.uptime.ms", Long.toString(jvmUptime));
+        report.setProperty("context.startup.ms", Long.toString(contextStartup));
+        report.setProperty("heap.used.bytes",
+                Long.toString(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed()));
+        report.setProperty("rss.kb", Long.toString(residentSetKb()));
+        try (Writer writer = Files.newBufferedWriter(Path.of(reportFile))) {
+            report.store(writer, "Golf Club startup benchmark");
+        } catch (IOException e) {
+            log.warn("Could not write startup report to {}", reportFile, e);
+        }
+    }
+
+    // Resident set size from procfs so JVM and native builds are measured the same way
+    private static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Resident set size not available", e);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.golfclub.controller;
+
+import com.golfclub.admission.AdmissionControl;
+import com.golfclub.admission.AdmissionStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/admission")
+public class AdmissionAdminController {
+    private final AdmissionControl admissionControl;
+
+    @Autowired
+    public AdmissionAdminController(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @GetMapping
+    public AdmissionStats getStats() {
+        return admissionControl.stats();
+    }
+}
@@ -0,0 +1,66 @@
+package com.golfclub.controller;
+
+import com.golfclub.analytics.CoPlayer;
+import com.golfclub.analytics.ParticipationHistogram;
+import com.golfclub.analytics.PlayingPair;
+import com.golfclub.analytics.RosterGraphStats;
+import com.golfclub.analytics.SimilarTournament;
+import com.golfclub.service.RosterAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+    private final RosterAnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(RosterAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/members/{id}/co-players")
+    public ResponseEntity<List<CoPlayer>> getCoPlayers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(analyticsService.findCoPlayers(id, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/co-players")
+    public ResponseEntity<List<PlayingPair>> getFrequentPairs(
+            @RequestParam(defaultValue = "2") int minShared,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(analyticsService.findFrequentPairs(minShared, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/tournaments/{id}/similar")
+    public ResponseEntity<List<SimilarTournament>> getSimilarTournaments(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(analyticsService.findSimilarTournaments(id, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/participation")
+    public ParticipationHistogram getParticipationHistogram() {
+        return analyticsService.getParticipationHistogram();
+    }
+
+    @GetMapping("/graph")
+    public RosterGraphStats getGraphStats() {
+        return analyticsService.getGraphStats();
+    }
+}
@@ -0,0 +1,44 @@
+package com.golfclub.controller;
+
+import com.golfclub.sharding.ClubShardRouter;
+import com.golfclub.sharding.ShardRebalancer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/clubs")
+public class ClubAdminController {
+    private final ClubShardRouter router;
+    private final ShardRebalancer rebalancer;
+
+    @Autowired
+    public ClubAdminController(ClubShardRouter router, ShardRebalancer rebalancer) {
+        this.router = router;
+        this.rebalancer = rebalancer;
+    }
+
+    @GetMapping
+    public Map<String, Object> getAssignments() {
+        return Map.of(
+                "defaultShard", router.defaultShard(),
+                "shards", router.shardNames(),
+                "clubs", router.assignments(),
+                "moving", router.movingClubs());
+    }
+
+    @PostMapping("/{clubId}/move")
+    public ResponseEntity<Map<String, Integer>> moveClub(
+            @PathVariable String clubId,
+            @RequestParam String targetShard) {
+        try {
+            return ResponseEntity.ok(rebalancer.moveClub(clubId, targetShard));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.golfclub.controller;
+
+import com.golfclub.coalescing.CoalescingStats;
+import com.golfclub.coalescing.ReadCoalescer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/coalescing")
+public class CoalescingAdminController {
+    private final ReadCoalescer reads;
+
+    @Autowired
+    public CoalescingAdminController(ReadCoalescer reads) {
+        this.reads = reads;
+    }
+
+    @GetMapping
+    public Map<String, CoalescingStats> getStats() {
+        return reads.stats();
+    }
+}
@@ -1,8 +1,11 @@
 package com.golfclub.controller;
 
 import com.golfclub.model.Member;
+import com.golfclub.model.ParticipantSummary;
+import com.golfclub.model.TournamentCalendarEntry;
 import com.golfclub.service.MemberService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +40,15 @@ public class MemberController {
         return memberService.getAllMembers();
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Member>> getMembers(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(memberService.getMembersByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Member> getMember(@PathVariable Long id) {
         return memberService.getMemberById(id)
@@ -44,6 +56,23 @@ public class MemberController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/schedule")
+    public ResponseEntity<List<TournamentCalendarEntry>> getSchedule(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusYears(1);
+        if (end.isBefore(start)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(memberService.getSchedule(id, start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Member> updateMember(@PathVariable Long id, @Valid @RequestBody Member member) {
         try {
@@ -56,8 +85,12 @@ public class MemberController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable Long id) {
-        memberService.deleteMember(id);
-        return ResponseEntity.noContent().build();
+        try {
+            memberService.deleteMember(id);
+            return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     @GetMapping("/search/name/{name}")
@@ -121,6 +154,16 @@ public class MemberController {
         return memberService.findTopParticipants();
     }
 
+    @GetMapping("/top-participants/global")
+    public ResponseEntity<List<ParticipantSummary>> getGlobalTopParticipants(
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(memberService.findTopParticipantsGlobal(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/{id}/check-status")
     public ResponseEntity<Void> checkMembershipStatus(@PathVariable Long id) {
         memberService.checkMembershipStatus(id);
@@ -0,0 +1,50 @@
+package com.golfclub.controller;
+
+import com.golfclub.model.HoleScore;
+import com.golfclub.model.LeaderboardEntry;
+import com.golfclub.service.LiveScoreService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/v1/tournaments/{tournamentId}")
+public class ScoreController {
+    private final LiveScoreService liveScoreService;
+
+    @Autowired
+    public ScoreController(LiveScoreService liveScoreService) {
+        this.liveScoreService = liveScoreService;
+    }
+
+    @PostMapping("/scores")
+    public ResponseEntity<Map<String, Integer>> submitScores(
+            @PathVariable Long tournamentId,
+            @RequestBody List<HoleScore> scores) {
+        try {
+            int accepted = liveScoreService.submitScores(tournamentId, scores);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("accepted", accepted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@PathVariable Long tournamentId) {
+        try {
+            return ResponseEntity.ok(liveScoreService.getLeaderboard(tournamentId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
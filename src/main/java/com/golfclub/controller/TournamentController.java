@@ -1,25 +1,43 @@
 package com.golfclub.controller;
 
+import com.golfclub.model.Money;
 import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.model.WaitlistEntry;
+import com.golfclub.scheduling.PairingOptions;
+import com.golfclub.scheduling.PairingPlan;
+import com.golfclub.scheduling.PairingTimeoutException;
+import com.golfclub.service.PairingService;
 import com.golfclub.service.TournamentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/v1/tournaments")
 public class TournamentController {
     private final TournamentService tournamentService;
+    private final PairingService pairingService;
+    private final long defaultPairingBudgetMs;
 
     @Autowired
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, PairingService pairingService,
+                                @Value("${golfclub.pairings.time-budget-ms:2000}") long defaultPairingBudgetMs) {
         this.tournamentService = tournamentService;
+        this.pairingService = pairingService;
+        this.defaultPairingBudgetMs = defaultPairingBudgetMs;
     }
 
     @PostMapping
@@ -37,9 +55,20 @@ public class TournamentController {
         return tournamentService.getAllTournaments();
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Tournament>> getTournaments(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(tournamentService.getTournamentsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Tournament> getTournament(@PathVariable Long id) {
-        return tournamentService.getTournamentById(id)
+    public ResponseEntity<Tournament> getTournament(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        return tournamentService.getTournamentById(id, includeHistory)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -53,6 +82,8 @@ public class TournamentController {
             return ResponseEntity.ok(updated);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -62,5 +93,141 @@ public class TournamentController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Void> updateStatus(
+            @PathVariable Long id,
+            @RequestBody Map<String, String> status) {
+        try {
+            Tournament.TournamentStatus newStatus = Tournament.TournamentStatus.valueOf(status.get("status"));
+            tournamentService.updateTournamentStatus(id, newStatus);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{id}/members/{memberId}")
+    public ResponseEntity<Tournament> registerMember(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(tournamentService.addMemberToTournament(id, memberId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/{id}/members/{memberId}")
+    public ResponseEntity<Tournament> unregisterMember(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(tournamentService.removeMemberFromTournament(id, memberId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/{id}/waitlist")
+    public ResponseEntity<List<WaitlistEntry>> getWaitlist(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(tournamentService.getWaitlist(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/waitlist")
+    public ResponseEntity<Map<String, Object>> joinWaitlist(
+            @PathVariable Long id,
+            @RequestBody Map<String, Long> request) {
+        try {
+            Integer priority = request.get("priority") != null ? request.get("priority").intValue() : null;
+            Optional<WaitlistEntry> entry = tournamentService.joinWaitlist(id, request.get("memberId"), priority);
+            Map<String, Object> response = new HashMap<>();
+            if (entry.isEmpty()) {
+                response.put("status", "REGISTERED");
+                return ResponseEntity.ok(response);
+            }
+            response.put("status", "WAITLISTED");
+            response.put("entry", entry.get());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/{id}/waitlist/{memberId}")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            tournamentService.leaveWaitlist(id, memberId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{id}/pairings")
+    public ResponseEntity<PairingPlan> getPairings(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "4") int groupSize,
+            @RequestParam(defaultValue = "08:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime firstTeeTime,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime lastTeeTime,
+            @RequestParam(defaultValue = "10") int intervalMinutes,
+            @RequestParam(required = false) Long timeBudgetMs) {
+        try {
+            PairingOptions options = new PairingOptions(groupSize, firstTeeTime, lastTeeTime, intervalMinutes,
+                    timeBudgetMs != null ? timeBudgetMs : defaultPairingBudgetMs);
+            return ResponseEntity.ok(pairingService.generatePairings(id, options));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (PairingTimeoutException | RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<List<TournamentCalendarEntry>> getCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start;
+        try {
+            return ResponseEntity.ok(tournamentService.getCalendar(start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/completed")
+    public ResponseEntity<List<Tournament>> getCompletedTournaments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        try {
+            return ResponseEntity.ok(tournamentService.findCompletedTournaments(start, end, includeHistory));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/revenue")
+    public Money getRevenue() {
+        return tournamentService.calculateTotalRevenue();
+    }
+
+    @GetMapping("/revenue/global")
+    public Money getGlobalRevenue() {
+        return tournamentService.calculateGlobalRevenue();
+    }
+
 }
 
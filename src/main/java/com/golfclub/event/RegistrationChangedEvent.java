@@ -0,0 +1,17 @@
+package com.golfclub.event;
+
+/**
+ * Published by {@code TournamentService} when a member is registered for
+ * or removed from a tournament, and by {@code MemberService} for each
+ * registration of a deleted member.
+ */
+public record RegistrationChangedEvent(String clubId, Long tournamentId, Long memberId, boolean registered) {
+
+    public static RegistrationChangedEvent added(String clubId, Long tournamentId, Long memberId) {
+        return new RegistrationChangedEvent(clubId, tournamentId, memberId, true);
+    }
+
+    public static RegistrationChangedEvent removed(String clubId, Long tournamentId, Long memberId) {
+        return new RegistrationChangedEvent(clubId, tournamentId, memberId, false);
+    }
+}
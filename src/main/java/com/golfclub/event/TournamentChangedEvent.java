@@ -0,0 +1,23 @@
+package com.golfclub.event;
+
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+
+/**
+ * Published by {@code TournamentService} whenever a tournament is created,
+ * updated or deleted. {@code entry} is null for deletions.
+ */
+public record TournamentChangedEvent(Long tournamentId, String clubId, TournamentCalendarEntry entry) {
+
+    public static TournamentChangedEvent updated(Tournament tournament) {
+        return new TournamentChangedEvent(tournament.getId(), tournament.getClubId(), TournamentCalendarEntry.of(tournament));
+    }
+
+    public static TournamentChangedEvent deleted(String clubId, Long tournamentId) {
+        return new TournamentChangedEvent(tournamentId, clubId, null);
+    }
+
+    public boolean isDeleted() {
+        return entry == null;
+    }
+}
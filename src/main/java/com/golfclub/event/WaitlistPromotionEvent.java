@@ -0,0 +1,7 @@
+package com.golfclub.event;
+
+/**
+ * Published when a waitlisted member is given a released seat.
+ */
+public record WaitlistPromotionEvent(Long tournamentId, Long memberId) {
+}
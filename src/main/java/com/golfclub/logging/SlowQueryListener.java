@@ -0,0 +1,54 @@
+package com.golfclub.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+/**
+ * Logs statements slower than a threshold, with elapsed time and a
+ * fingerprint of the normalized SQL. Bind values are never logged.
+ * Only a sample of slow statements is written when the sample rate is below 1.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final Logger log = LoggerFactory.getLogger("com.golfclub.sql.slow");
+
+    private final long thresholdMs;
+    private final double sampleRate;
+
+    public SlowQueryListener(long thresholdMs, double sampleRate) {
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMs || !sampled()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String statement = SqlFingerprint.normalize(queryInfo.getQuery());
+            log.warn("Slow query {} ms [{}]",
+                    value("elapsed_ms", elapsed),
+                    value("fingerprint", SqlFingerprint.of(statement)),
+                    kv("statement", statement),
+                    kv("success", execInfo.isSuccess()),
+                    kv("batch_size", execInfo.getBatchSize()));
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,71 @@
+package com.golfclub.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Base class for backfilling a derived column in primary-key ranges.
+ * Each batch commits on its own so row locks are only held for one
+ * range at a time and the table stays writable during the backfill.
+ * Subclasses are registered as beans rather than found by classpath
+ * scanning, which does not work in a native image.
+ */
+public abstract class BatchedBackfillMigration extends BaseJavaMigration {
+    private static final Logger log = LoggerFactory.getLogger(BatchedBackfillMigration.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    protected abstract String tableName();
+
+    /**
+     * UPDATE statement for one batch. It must take two parameters,
+     * the inclusive lower and exclusive upper bound of {@code id}.
+     */
+    protected abstract String batchUpdateSql();
+
+    protected int batchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try {
+            long minId;
+            long maxId;
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT MIN(id), MAX(id) FROM " + tableName())) {
+                rs.next();
+                minId = rs.getLong(1);
+                maxId = rs.getLong(2);
+                if (rs.wasNull()) {
+                    return;
+                }
+            }
+
+            long updated = 0;
+            try (PreparedStatement update = connection.prepareStatement(batchUpdateSql())) {
+                for (long from = minId; from <= maxId; from += batchSize()) {
+                    update.setLong(1, from);
+                    update.setLong(2, from + batchSize());
+                    updated += update.executeUpdate();
+                }
+            }
+            log.info("Backfilled {} rows in {}", updated, tableName());
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
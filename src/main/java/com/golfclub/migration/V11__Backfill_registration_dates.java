@@ -0,0 +1,25 @@
+package com.golfclub.migration;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class V11__Backfill_registration_dates extends BatchedBackfillMigration {
+
+    @Override
+    protected String tableName() {
+        return "tournaments";
+    }
+
+    // Ranges are over tournament ids, and a tournament has up to 100 registrations
+    @Override
+    protected int batchSize() {
+        return 100;
+    }
+
+    @Override
+    protected String batchUpdateSql() {
+        return "UPDATE tournament_members tm JOIN tournaments t ON t.id = tm.tournament_id " +
+                "SET tm.start_date = t.start_date, tm.end_date = t.end_date " +
+                "WHERE t.id >= ? AND t.id < ?";
+    }
+}
@@ -0,0 +1,19 @@
+package com.golfclub.migration;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4__Backfill_tournament_participant_count extends BatchedBackfillMigration {
+
+    @Override
+    protected String tableName() {
+        return "tournaments";
+    }
+
+    @Override
+    protected String batchUpdateSql() {
+        return "UPDATE tournaments t SET t.participant_count = " +
+                "(SELECT COUNT(*) FROM tournament_members tm WHERE tm.tournament_id = t.id) " +
+                "WHERE t.id >= ? AND t.id < ?";
+    }
+}
@@ -0,0 +1,141 @@
+package com.golfclub.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A finished tournament moved out of the hot tables by the archiver.
+ * Read-only; served as a {@link Tournament} through {@link #toTournament}.
+ */
+@Entity
+@Immutable
+@Table(name = "tournaments_archive")
+public class ArchivedTournament {
+    @Id
+    private Long id;
+
+    // Partition key: the year the tournament ended
+    @Column(name = "archive_year", nullable = false)
+    private Integer archiveYear;
+
+    @TenantId
+    @Column(name = "club_id", nullable = false, updatable = false)
+    private String clubId;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "location")
+    private String location;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "entry_fee", nullable = false)
+    private long entryFee;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "cash_prize_amount", nullable = false)
+    private long cashPrizeAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Tournament.TournamentStatus status;
+
+    @Column(name = "minimum_participants", nullable = false)
+    private Integer minimumParticipants;
+
+    @Column(name = "maximum_participants", nullable = false)
+    private Integer maximumParticipants;
+
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "tournament_members_archive", joinColumns = @JoinColumn(name = "tournament_id"))
+    @Column(name = "member_id")
+    private Set<Long> participantIds = new HashSet<>();
+
+    protected ArchivedTournament() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getArchiveYear() {
+        return archiveYear;
+    }
+
+    public String getClubId() {
+        return clubId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Money getEntryFee() {
+        return Money.ofCents(entryFee);
+    }
+
+    public Money getCashPrizeAmount() {
+        return Money.ofCents(cashPrizeAmount);
+    }
+
+    public Tournament.TournamentStatus getStatus() {
+        return status;
+    }
+
+    public Integer getMinimumParticipants() {
+        return minimumParticipants;
+    }
+
+    public Integer getMaximumParticipants() {
+        return maximumParticipants;
+    }
+
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public Set<Long> getParticipantIds() {
+        return participantIds;
+    }
+
+    /**
+     * A detached copy shaped like a live tournament, so history reads look
+     * the same as hot reads. Never save it.
+     */
+    public Tournament toTournament(Set<Member> participants) {
+        return Tournament.fromArchive(this, participants);
+    }
+}
@@ -0,0 +1,29 @@
+package com.golfclub.model;
+
+/**
+ * Strokes for one hole of one round, as sent by a scoring device.
+ * Re-sending the same member/round/hole replaces the earlier score.
+ */
+public record HoleScore(Long tournamentId, Long memberId, int round, int hole, int strokes) {
+    public static final int MAX_ROUNDS = 4;
+    public static final int HOLES_PER_ROUND = 18;
+
+    public HoleScore withTournamentId(Long tournamentId) {
+        return new HoleScore(tournamentId, memberId, round, hole, strokes);
+    }
+
+    public void validate() {
+        if (memberId == null) {
+            throw new IllegalArgumentException("Member is required");
+        }
+        if (round < 1 || round > MAX_ROUNDS) {
+            throw new IllegalArgumentException("Round must be between 1 and " + MAX_ROUNDS);
+        }
+        if (hole < 1 || hole > HOLES_PER_ROUND) {
+            throw new IllegalArgumentException("Hole must be between 1 and " + HOLES_PER_ROUND);
+        }
+        if (strokes < 1 || strokes > 20) {
+            throw new IllegalArgumentException("Strokes must be between 1 and 20");
+        }
+    }
+}
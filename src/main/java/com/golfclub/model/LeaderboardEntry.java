@@ -0,0 +1,4 @@
+package com.golfclub.model;
+
+public record LeaderboardEntry(int position, Long memberId, int totalStrokes, int holesPlayed) {
+}
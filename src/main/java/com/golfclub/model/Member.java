@@ -1,8 +1,10 @@
 package com.golfclub.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,12 +13,21 @@ import java.util.List;
 @Table(name = "members", indexes = {
         @Index(name = "idx_member_email", columnList = "memberEmail"),
         @Index(name = "idx_member_phone", columnList = "memberPhone")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_club_email", columnNames = {"club_id", "memberEmail"}),
+        @UniqueConstraint(name = "uk_member_club_phone", columnNames = {"club_id", "memberPhone"})
 })
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Set by Hibernate from the current club on insert
+    @TenantId
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "club_id", nullable = false, updatable = false)
+    private String clubId;
+
     @NotBlank
     @Pattern(regexp = "^[a-zA-Z\\s]{2,50}$")
     private String memberName;
@@ -26,11 +37,9 @@ public class Member {
 
     @Email
     @NotBlank
-    @Column(unique = true)
     private String memberEmail;
 
     @Pattern(regexp = "^\\d{3}-\\d{3}-\\d{4}$")
-    @Column(unique = true)
     private String memberPhone;
 
     @NotNull
@@ -41,6 +50,10 @@ public class Member {
     @Max(60)
     private Integer duration;
 
+    @DecimalMin("0.0")
+    @DecimalMax("54.0")
+    private Double handicap;
+
     @JsonIgnore
     @ManyToMany(mappedBy = "participatingMembers", fetch = FetchType.EAGER)
     private List<Tournament> tournaments = new ArrayList<>();
@@ -55,8 +68,9 @@ public class Member {
     @Column(name = "total_tournaments_played")
     private Integer totalTournamentsPlayed = 0;
 
+    @Convert(converter = MoneyCentsConverter.class)
     @Column(name = "total_winnings")
-    private Double totalWinnings = 0.0;
+    private long totalWinnings;
 
     public enum MembershipStatus {
         ACTIVE, EXPIRED, SUSPENDED, PENDING
@@ -73,7 +87,7 @@ public class Member {
         this.startDate = startDate;
         this.duration = duration;
         this.totalTournamentsPlayed = 0;
-        this.totalWinnings = 0.0;
+        this.totalWinnings = 0;
         this.status = MembershipStatus.ACTIVE;
     }
 
@@ -85,6 +99,10 @@ public class Member {
         this.id = id;
     }
 
+    public String getClubId() {
+        return clubId;
+    }
+
     public String getMemberName() {
         return memberName;
     }
@@ -133,6 +151,14 @@ public class Member {
         this.duration = duration;
     }
 
+    public Double getHandicap() {
+        return handicap;
+    }
+
+    public void setHandicap(Double handicap) {
+        this.handicap = handicap;
+    }
+
     public List<Tournament> getTournaments() {
         return tournaments;
     }
@@ -157,12 +183,12 @@ public class Member {
         this.totalTournamentsPlayed = totalTournamentsPlayed;
     }
 
-    public Double getTotalWinnings() {
-        return totalWinnings;
+    public Money getTotalWinnings() {
+        return Money.ofCents(totalWinnings);
     }
 
-    public void setTotalWinnings(Double totalWinnings) {
-        this.totalWinnings = totalWinnings;
+    public void setTotalWinnings(Money totalWinnings) {
+        this.totalWinnings = totalWinnings.cents();
     }
 
     public boolean isActive() {
@@ -177,8 +203,12 @@ public class Member {
         this.totalTournamentsPlayed++;
     }
 
-    public void addWinnings(Double amount) {
-        this.totalWinnings += amount;
+    public void addWinnings(Money amount) {
+        addWinningsCents(amount.cents());
+    }
+
+    public void addWinningsCents(long cents) {
+        this.totalWinnings = Math.addExact(totalWinnings, cents);
     }
 
     @Override
@@ -0,0 +1,72 @@
+package com.golfclub.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of cents, matching the
+ * DECIMAL(10,2) money columns exactly. Serialized to JSON as a decimal
+ * number, e.g. {@code 150.00}.
+ */
+public record Money(long cents) implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * @throws ArithmeticException if the amount has fractions of a cent
+     */
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(long multiplier) {
+        return ofCents(Math.multiplyExact(cents, multiplier));
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    /**
+     * Splits {@code totalCents} into {@code shares.length} parts that add up
+     * exactly; the first {@code totalCents % shares.length} parts get one
+     * extra cent. Writes into the caller's array so nothing is allocated.
+     */
+    public static void allocate(long totalCents, long[] shares) {
+        int count = shares.length;
+        long base = totalCents / count;
+        long remainder = totalCents % count;
+        for (int i = 0; i < count; i++) {
+            shares[i] = base + (i < remainder ? 1 : 0);
+        }
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.golfclub.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Maps a primitive cents field to a DECIMAL(10,2) column. Applied
+ * explicitly with {@code @Convert} so it never touches ids or counters.
+ */
+@Converter
+public class MoneyCentsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long cents) {
+        return cents == null ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? 0L : amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+}
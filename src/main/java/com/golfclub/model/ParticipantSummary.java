@@ -0,0 +1,12 @@
+package com.golfclub.model;
+
+/**
+ * Row of the cross-club top participants list.
+ */
+public record ParticipantSummary(Long memberId, String clubId, String memberName, int totalTournamentsPlayed) {
+
+    public static ParticipantSummary fromRow(Object[] row) {
+        return new ParticipantSummary(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                row[3] != null ? ((Number) row[3]).intValue() : 0);
+    }
+}
@@ -1,10 +1,13 @@
 package com.golfclub.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
@@ -14,6 +17,12 @@ public class Tournament {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Set by Hibernate from the current club on insert
+    @TenantId
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "club_id", nullable = false, updatable = false)
+    private String clubId;
+
     @NotNull(message = "Start date is required")
     @FutureOrPresent(message = "Start date must be present or future")
     @Column(name = "start_date")
@@ -28,13 +37,14 @@ public class Tournament {
     @Column(name = "location")
     private String location;
 
-    @Positive(message = "Entry fee must be positive")
+    // Money in cents; exposed as Money through the accessors
+    @Convert(converter = MoneyCentsConverter.class)
     @Column(name = "entry_fee", nullable = false)
-    private Double entryFee;
+    private long entryFee;
 
-    @PositiveOrZero(message = "Cash prize must be zero or positive")
+    @Convert(converter = MoneyCentsConverter.class)
     @Column(name = "cash_prize_amount", nullable = false)
-    private Double cashPrizeAmount;
+    private long cashPrizeAmount;
 
     @JsonIgnoreProperties("tournaments")
     @ManyToMany
@@ -61,6 +71,9 @@ public class Tournament {
     @Column(name = "maximum_participants", nullable = false)
     private Integer maximumParticipants = 100;
 
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount = 0;
+
     public enum TournamentStatus {
         SCHEDULED, IN_PROGRESS, COMPLETED, CANCELLED
     }
@@ -71,12 +84,26 @@ public class Tournament {
 
     // Constructor with required fields
     public Tournament(LocalDate startDate, LocalDate endDate, String location,
-                      Double entryFee, Double cashPrizeAmount) {
+                      Money entryFee, Money cashPrizeAmount) {
         this.startDate = startDate;
         this.endDate = endDate;
         this.location = location;
-        this.entryFee = entryFee;
-        this.cashPrizeAmount = cashPrizeAmount;
+        this.entryFee = entryFee.cents();
+        this.cashPrizeAmount = cashPrizeAmount.cents();
+    }
+
+    static Tournament fromArchive(ArchivedTournament archived, Set<Member> participants) {
+        Tournament tournament = new Tournament(archived.getStartDate(), archived.getEndDate(), archived.getLocation(),
+                archived.getEntryFee(), archived.getCashPrizeAmount());
+        tournament.id = archived.getId();
+        tournament.clubId = archived.getClubId();
+        tournament.status = archived.getStatus();
+        tournament.version = archived.getVersion();
+        tournament.minimumParticipants = archived.getMinimumParticipants();
+        tournament.maximumParticipants = archived.getMaximumParticipants();
+        tournament.participantCount = archived.getParticipantCount();
+        tournament.participatingMembers = participants;
+        return tournament;
     }
 
     // Getters and Setters
@@ -88,6 +115,10 @@ public class Tournament {
         this.id = id;
     }
 
+    public String getClubId() {
+        return clubId;
+    }
+
     public LocalDate getStartDate() {
         return startDate;
     }
@@ -112,20 +143,20 @@ public class Tournament {
         this.location = location;
     }
 
-    public Double getEntryFee() {
-        return entryFee;
+    public Money getEntryFee() {
+        return Money.ofCents(entryFee);
     }
 
-    public void setEntryFee(Double entryFee) {
-        this.entryFee = entryFee;
+    public void setEntryFee(Money entryFee) {
+        this.entryFee = entryFee.cents();
     }
 
-    public Double getCashPrizeAmount() {
-        return cashPrizeAmount;
+    public Money getCashPrizeAmount() {
+        return Money.ofCents(cashPrizeAmount);
     }
 
-    public void setCashPrizeAmount(Double cashPrizeAmount) {
-        this.cashPrizeAmount = cashPrizeAmount;
+    public void setCashPrizeAmount(Money cashPrizeAmount) {
+        this.cashPrizeAmount = cashPrizeAmount.cents();
     }
 
     public Set<Member> getParticipatingMembers() {
@@ -168,15 +199,21 @@ public class Tournament {
         this.maximumParticipants = maximumParticipants;
     }
 
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
     // Business methods
     public void addMember(Member member) {
         participatingMembers.add(member);
         member.getTournaments().add(this);
+        participantCount = participatingMembers.size();
     }
 
     public void removeMember(Member member) {
         participatingMembers.remove(member);
         member.getTournaments().remove(this);
+        participantCount = participatingMembers.size();
     }
 
     public boolean isRegistrationOpen() {
@@ -193,8 +230,21 @@ public class Tournament {
         return participatingMembers.contains(member);
     }
 
-    public Double calculateTotalRevenue() {
-        return entryFee * participatingMembers.size();
+    public Money calculateTotalRevenue() {
+        return Money.ofCents(calculateTotalRevenueCents());
+    }
+
+    public long calculateTotalRevenueCents() {
+        return Math.multiplyExact(entryFee, (long) participantCount);
+    }
+
+    // Sums in primitive cents so the loop allocates nothing
+    public static Money calculateTotalRevenue(List<Tournament> tournaments) {
+        long total = 0;
+        for (int i = 0; i < tournaments.size(); i++) {
+            total = Math.addExact(total, tournaments.get(i).calculateTotalRevenueCents());
+        }
+        return Money.ofCents(total);
     }
 
     // Equals and HashCode
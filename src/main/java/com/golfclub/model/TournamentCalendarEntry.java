@@ -0,0 +1,23 @@
+package com.golfclub.model;
+
+import java.time.LocalDate;
+
+/**
+ * Date range and headline details of a tournament, as held by the
+ * in-memory calendar index.
+ */
+public record TournamentCalendarEntry(Long id,
+                                      LocalDate startDate,
+                                      LocalDate endDate,
+                                      String location,
+                                      Tournament.TournamentStatus status) {
+
+    public static TournamentCalendarEntry of(Tournament tournament) {
+        return new TournamentCalendarEntry(tournament.getId(), tournament.getStartDate(),
+                tournament.getEndDate(), tournament.getLocation(), tournament.getStatus());
+    }
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+}
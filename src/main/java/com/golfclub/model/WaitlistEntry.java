@@ -0,0 +1,73 @@
+package com.golfclub.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A member waiting for a seat in a full tournament. Entries are served
+ * highest priority first, then first come first served.
+ */
+@Entity
+@Table(name = "tournament_waitlist", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_waitlist_tournament_member", columnNames = {"tournament_id", "member_id"})
+})
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "priority", nullable = false)
+    private Integer priority = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public WaitlistEntry() {
+    }
+
+    public WaitlistEntry(Long tournamentId, Long memberId, Integer priority) {
+        this.tournamentId = tournamentId;
+        this.memberId = memberId;
+        this.priority = priority != null ? priority : 0;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WaitlistEntry)) return false;
+        WaitlistEntry that = (WaitlistEntry) o;
+        return getId() != null && getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
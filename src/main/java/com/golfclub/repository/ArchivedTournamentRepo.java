@@ -0,0 +1,21 @@
+package com.golfclub.repository;
+
+import com.golfclub.model.ArchivedTournament;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedTournamentRepo extends JpaRepository<ArchivedTournament, Long> {
+    // The year bounds let MySQL prune the partitions outside the range
+    @Query("SELECT DISTINCT a FROM ArchivedTournament a LEFT JOIN FETCH a.participantIds " +
+            "WHERE a.status = 'COMPLETED' AND a.archiveYear BETWEEN :fromYear AND :toYear " +
+            "AND a.endDate BETWEEN :from AND :to ORDER BY a.endDate DESC")
+    List<ArchivedTournament> findCompletedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                  @Param("fromYear") int fromYear, @Param("toYear") int toYear);
+
+    @Query("SELECT a FROM ArchivedTournament a LEFT JOIN FETCH a.participantIds WHERE a.id = :id")
+    Optional<ArchivedTournament> findWithParticipants(@Param("id") Long id);
+}
@@ -0,0 +1,45 @@
+package com.golfclub.repository;
+
+import com.golfclub.model.HoleScore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Plain JDBC access to hole_scores. Scores are written in multi-row
+ * batches, which JPA cannot do for upserts.
+ */
+@Repository
+public class HoleScoreStore {
+    private static final String UPSERT =
+            "INSERT INTO hole_scores (tournament_id, member_id, round_number, hole, strokes, recorded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE strokes = VALUES(strokes), recorded_at = VALUES(recorded_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HoleScoreStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertAll(List<HoleScore> scores) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT, scores, scores.size(), (ps, score) -> {
+            ps.setLong(1, score.tournamentId());
+            ps.setLong(2, score.memberId());
+            ps.setInt(3, score.round());
+            ps.setInt(4, score.hole());
+            ps.setInt(5, score.strokes());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    public List<HoleScore> findByTournament(Long tournamentId) {
+        return jdbcTemplate.query(
+                "SELECT tournament_id, member_id, round_number, hole, strokes FROM hole_scores WHERE tournament_id = ?",
+                (rs, rowNum) -> new HoleScore(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4), rs.getInt(5)),
+                tournamentId);
+    }
+}
@@ -1,10 +1,13 @@
 package com.golfclub.repository;
 
 import com.golfclub.model.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +19,20 @@ public interface MemberRepo extends JpaRepository<Member, Long> {
     List<Member> findByStatus(Member.MembershipStatus status);
     List<Member> findByStartDateBetween(LocalDate start, LocalDate end);
     List<Member> findByTotalTournamentsPlayedGreaterThan(Integer count);
-    List<Member> findByTotalWinningsGreaterThan(Double amount);
+    List<Member> findByTotalWinningsGreaterThan(long amountCents);
+
+    // Bumps the version on commit, so concurrent registration changes for one member conflict
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT m FROM Member m WHERE m.id = :id")
+    Optional<Member> findByIdForRegistration(@Param("id") Long id);
+
+    // Tournament id, start and end date; reads only idx_tournament_members_schedule
+    @Query(value = "SELECT tm.tournament_id, tm.start_date, tm.end_date FROM tournament_members tm " +
+            "WHERE tm.member_id = :memberId AND tm.start_date IS NOT NULL ORDER BY tm.start_date", nativeQuery = true)
+    List<Object[]> findScheduleRows(@Param("memberId") Long memberId);
+
+    @Query("SELECT DISTINCT m FROM Member m LEFT JOIN FETCH m.tournaments WHERE m.id IN :ids")
+    List<Member> findAllWithTournamentsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT m FROM Member m JOIN m.tournaments t WHERE t.id = :tournamentId")
     List<Member> findMembersByTournamentId(@Param("tournamentId") Long tournamentId);
@@ -29,4 +45,9 @@ public interface MemberRepo extends JpaRepository<Member, Long> {
 
     @Query("SELECT m FROM Member m WHERE m.status = 'ACTIVE' ORDER BY m.totalTournamentsPlayed DESC")
     List<Member> findTopParticipants();
+
+    // Every club on the current shard; rows map to ParticipantSummary
+    @Query(value = "SELECT m.id, m.club_id, m.member_name, m.total_tournaments_played FROM members m " +
+            "WHERE m.status = 'ACTIVE' ORDER BY m.total_tournaments_played DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findShardTopParticipants(@Param("limit") int limit);
 }
\ No newline at end of file
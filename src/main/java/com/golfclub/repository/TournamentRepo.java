@@ -1,10 +1,15 @@
 package com.golfclub.repository;
 
 import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.sharding.ClubContext;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TournamentRepo extends JpaRepository<Tournament, Long> {
@@ -14,33 +19,84 @@ public interface TournamentRepo extends JpaRepository<Tournament, Long> {
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.location LIKE %:location%")
     List<Tournament> findByLocationContainingIgnoreCase(@Param("location") String location);
 
-    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.startDate BETWEEN :startDate AND :endDate")
-    List<Tournament> findByStartDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-
     @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers")
     List<Tournament> findAllWithMembers();
 
-    @Query("SELECT SUM(t.entryFee * SIZE(t.participatingMembers)) FROM Tournament t WHERE t.status = 'COMPLETED'")
-    Double calculateTotalRevenue();
+    // Member.tournaments is eager, so it's fetched here too rather than one select per member
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers m " +
+            "LEFT JOIN FETCH m.tournaments WHERE t.id IN :ids")
+    List<Tournament> findAllWithMembersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Native queries are not filtered by club, so the club is passed explicitly
+    @Query(value = "SELECT COALESCE(SUM(t.entry_fee * t.participant_count), 0) FROM tournaments t " +
+            "WHERE t.status = 'COMPLETED' AND t.club_id = :clubId", nativeQuery = true)
+    BigDecimal calculateClubRevenue(@Param("clubId") String clubId);
+
+    default BigDecimal calculateTotalRevenue() {
+        return calculateClubRevenue(ClubContext.current());
+    }
 
-    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.startDate <= :date AND t.endDate >= :date")
-    List<Tournament> findCurrentTournaments(@Param("date") LocalDate date);
+    // Every club on the current shard
+    @Query(value = "SELECT COALESCE(SUM(t.entry_fee * t.participant_count), 0) FROM tournaments t WHERE t.status = 'COMPLETED'",
+            nativeQuery = true)
+    BigDecimal calculateShardRevenue();
 
-    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE SIZE(t.participatingMembers) < t.maximumParticipants AND t.status = 'SCHEDULED'")
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers WHERE t.participantCount < t.maximumParticipants AND t.status = 'SCHEDULED'")
     List<Tournament> findAvailableTournaments();
 
     @Query("SELECT t FROM Tournament t WHERE t.cashPrizeAmount >= :minPrize")
-    List<Tournament> findByMinimumPrize(@Param("minPrize") Double minPrize);
+    List<Tournament> findByMinimumPrize(@Param("minPrize") long minPrizeCents);
 
     @Query("SELECT t FROM Tournament t WHERE t.entryFee <= :maxFee")
-    List<Tournament> findByMaximumEntryFee(@Param("maxFee") Double maxFee);
+    List<Tournament> findByMaximumEntryFee(@Param("maxFee") long maxFeeCents);
 
     @Query("SELECT t FROM Tournament t WHERE SIZE(t.participatingMembers) >= :minCount")
     List<Tournament> findByMinimumParticipants(@Param("minCount") Integer minCount);
 
-    @Query("SELECT t FROM Tournament t WHERE t.status = 'SCHEDULED' AND t.startDate > :date ORDER BY t.startDate ASC")
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers " +
+            "WHERE t.status = 'SCHEDULED' AND t.startDate > :date ORDER BY t.startDate ASC")
     List<Tournament> findUpcomingTournaments(@Param("date") LocalDate date);
 
     @Query("SELECT t FROM Tournament t WHERE t.status = 'COMPLETED' ORDER BY t.endDate DESC")
     List<Tournament> findRecentlyCompletedTournaments();
+
+    @Query("SELECT DISTINCT t FROM Tournament t LEFT JOIN FETCH t.participatingMembers " +
+            "WHERE t.status = 'COMPLETED' AND t.endDate BETWEEN :from AND :to ORDER BY t.endDate DESC")
+    List<Tournament> findCompletedEndingBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT m.id FROM Tournament t JOIN t.participatingMembers m WHERE t.id = :tournamentId")
+    List<Long> findParticipantIds(@Param("tournamentId") Long tournamentId);
+
+    @Query("SELECT DISTINCT m1.id, m2.id FROM Tournament t JOIN t.participatingMembers m1 JOIN t.participatingMembers m2 " +
+            "WHERE t.status = 'COMPLETED' AND t.endDate >= :since " +
+            "AND m1.id < m2.id AND m1.id IN :memberIds AND m2.id IN :memberIds")
+    List<Object[]> findPastPairings(@Param("memberIds") Collection<Long> memberIds, @Param("since") LocalDate since);
+
+    // Same pairs from the archive; archive_year is the year the tournament ended, so old partitions are skipped
+    @Query(value = "SELECT DISTINCT a.member_id, b.member_id FROM tournaments_archive t " +
+            "JOIN tournament_members_archive a ON a.tournament_id = t.id AND a.archive_year = t.archive_year " +
+            "JOIN tournament_members_archive b ON b.tournament_id = t.id AND b.archive_year = t.archive_year " +
+            "WHERE t.club_id = :clubId AND t.status = 'COMPLETED' AND t.end_date >= :since " +
+            "AND t.archive_year >= YEAR(:since) AND a.archive_year >= YEAR(:since) AND b.archive_year >= YEAR(:since) " +
+            "AND a.member_id < b.member_id AND a.member_id IN :memberIds AND b.member_id IN :memberIds",
+            nativeQuery = true)
+    List<Object[]> findArchivedClubPairings(@Param("clubId") String clubId,
+                                            @Param("memberIds") Collection<Long> memberIds,
+                                            @Param("since") LocalDate since);
+
+    default List<Object[]> findArchivedPastPairings(Collection<Long> memberIds, LocalDate since) {
+        return findArchivedClubPairings(ClubContext.current(), memberIds, since);
+    }
+
+    // Only writes rows that are new or still carry old dates
+    @Modifying
+    @Query(value = "UPDATE tournament_members SET start_date = :startDate, end_date = :endDate " +
+            "WHERE tournament_id = :tournamentId " +
+            "AND (start_date IS NULL OR start_date <> :startDate OR end_date <> :endDate)", nativeQuery = true)
+    int copyDatesToRegistrations(@Param("tournamentId") Long tournamentId,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.golfclub.model.TournamentCalendarEntry(t.id, t.startDate, t.endDate, t.location, t.status) FROM Tournament t")
+    List<TournamentCalendarEntry> findCalendarEntries();
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.golfclub.repository;
+
+import com.golfclub.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistRepo extends JpaRepository<WaitlistEntry, Long> {
+    List<WaitlistEntry> findByTournamentIdOrderByPriorityDescIdAsc(Long tournamentId);
+    Optional<WaitlistEntry> findByTournamentIdAndMemberId(Long tournamentId, Long memberId);
+    boolean existsByTournamentIdAndMemberId(Long tournamentId, Long memberId);
+}
@@ -0,0 +1,10 @@
+package com.golfclub.scheduling;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public record Flight(int flightNumber, LocalTime teeTime, List<Player> players, double averageHandicap) {
+
+    public record Player(Long memberId, String memberName, Double handicap) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.golfclub.scheduling;
+
+import java.time.LocalTime;
+
+/**
+ * Constraints for one pairing run. {@code lastTeeTime} may be null for an
+ * open-ended tee sheet.
+ */
+public record PairingOptions(int groupSize,
+                             LocalTime firstTeeTime,
+                             LocalTime lastTeeTime,
+                             int intervalMinutes,
+                             long timeBudgetMs) {
+
+    public PairingOptions {
+        if (groupSize < 2 || groupSize > 4) {
+            throw new IllegalArgumentException("Group size must be between 2 and 4");
+        }
+        if (intervalMinutes <= 0) {
+            throw new IllegalArgumentException("Tee time interval must be positive");
+        }
+        if (timeBudgetMs <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (lastTeeTime != null && lastTeeTime.isBefore(firstTeeTime)) {
+            throw new IllegalArgumentException("Last tee time cannot be before first tee time");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.golfclub.scheduling;
+
+import java.util.List;
+
+/**
+ * A tee sheet plus how well it meets the constraints: the number of pairs
+ * grouped together again from past tournaments and the gap between the
+ * strongest and weakest flight's average handicap.
+ */
+public record PairingPlan(Long tournamentId,
+                          List<Flight> flights,
+                          int repeatPairings,
+                          double handicapSpread,
+                          long candidatesEvaluated,
+                          long searchMillis) {
+}
@@ -0,0 +1,319 @@
+package com.golfclub.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * Splits a tournament field into flights and assigns tee times.
+ * <p>
+ * Each worker on the fork-join pool runs a simulated-annealing search over
+ * player swaps from its own starting point until the time budget runs out;
+ * the best tee sheet across workers wins. A sheet is scored by how far each
+ * flight's average handicap is from the field average, plus a penalty for
+ * every pair of players who were in a past tournament together.
+ */
+@Component
+public class PairingScheduler {
+    private static final double REPEAT_PAIR_PENALTY = 10.0;
+    private static final double START_TEMPERATURE = 5.0;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    public PairingScheduler(@Value("${golfclub.pairings.parallelism:0}") int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public PairingPlan schedule(Long tournamentId, List<Flight.Player> players,
+                                Map<Long, Set<Long>> pastPartners, PairingOptions options) {
+        long started = System.nanoTime();
+        Problem problem = new Problem(players, pastPartners, options.groupSize());
+        checkTeeTimeWindow(problem.groupCount(), options);
+
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(options.timeBudgetMs());
+        List<ForkJoinTask<Candidate>> tasks = new ArrayList<>();
+        for (int worker = 0; worker < parallelism; worker++) {
+            long seed = tournamentId * 31 + worker;
+            boolean balancedStart = worker == 0;
+            tasks.add(pool.submit(() -> problem.search(new SplittableRandom(seed), balancedStart, deadline)));
+        }
+
+        Candidate best = null;
+        long evaluated = 0;
+        for (ForkJoinTask<Candidate> task : tasks) {
+            Candidate candidate = await(task, options.timeBudgetMs());
+            evaluated += candidate.iterations();
+            if (best == null || candidate.cost() < best.cost()) {
+                best = candidate;
+            }
+        }
+
+        List<Flight> flights = problem.toFlights(best.order(), options);
+        double spread = flights.stream().mapToDouble(Flight::averageHandicap).max().orElse(0)
+                - flights.stream().mapToDouble(Flight::averageHandicap).min().orElse(0);
+        return new PairingPlan(tournamentId, flights, best.repeats(), spread, evaluated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private static void checkTeeTimeWindow(int flights, PairingOptions options) {
+        if (options.lastTeeTime() == null || flights == 0) {
+            return;
+        }
+        long minutesNeeded = (long) (flights - 1) * options.intervalMinutes();
+        long minutesAvailable = TimeUnit.SECONDS.toMinutes(
+                options.lastTeeTime().toSecondOfDay() - options.firstTeeTime().toSecondOfDay());
+        if (minutesNeeded > minutesAvailable) {
+            throw new IllegalArgumentException("Tee time window is too short for " + flights + " flights");
+        }
+    }
+
+    private static Candidate await(ForkJoinTask<Candidate> task, long timeBudgetMs) {
+        try {
+            return task.get(timeBudgetMs + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Pairing search was interrupted", e);
+        } catch (TimeoutException e) {
+            throw new PairingTimeoutException("Pairing search did not finish in time", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Pairing search failed", e);
+        }
+    }
+
+    private record Candidate(int[] order, double cost, int repeats, long iterations) {
+    }
+
+    /**
+     * Immutable problem data shared by all workers. Flights are consecutive
+     * slices of a player order; {@code flightStart} holds the slice bounds.
+     */
+    private static final class Problem {
+        private final List<Flight.Player> players;
+        private final double[] handicaps;
+        private final BitSet playedTogether;
+        private final int[] flightStart;
+        private final int[] flightOfPosition;
+        private final double fieldAverage;
+        private final int size;
+
+        Problem(List<Flight.Player> players, Map<Long, Set<Long>> pastPartners, int groupSize) {
+            this.players = players;
+            this.size = players.size();
+
+            double known = players.stream().filter(p -> p.handicap() != null)
+                    .mapToDouble(Flight.Player::handicap).average().orElse(0);
+            this.handicaps = players.stream()
+                    .mapToDouble(p -> p.handicap() != null ? p.handicap() : known).toArray();
+            this.fieldAverage = known;
+
+            Map<Long, Integer> indexById = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                indexById.put(players.get(i).memberId(), i);
+            }
+            this.playedTogether = new BitSet(size * size);
+            pastPartners.forEach((memberId, partners) -> {
+                Integer a = indexById.get(memberId);
+                for (Long partnerId : partners) {
+                    Integer b = indexById.get(partnerId);
+                    if (a != null && b != null) {
+                        playedTogether.set(a * size + b);
+                        playedTogether.set(b * size + a);
+                    }
+                }
+            });
+
+            // Spread players as evenly as possible over ceil(n / groupSize) flights
+            int flights = (size + groupSize - 1) / groupSize;
+            this.flightStart = new int[flights + 1];
+            this.flightOfPosition = new int[size];
+            for (int f = 0, position = 0; f < flights; f++) {
+                flightStart[f] = position;
+                int flightSize = size / flights + (f < size % flights ? 1 : 0);
+                for (int i = 0; i < flightSize; i++) {
+                    flightOfPosition[position++] = f;
+                }
+            }
+            flightStart[flights] = size;
+        }
+
+        int groupCount() {
+            return flightStart.length - 1;
+        }
+
+        Candidate search(SplittableRandom random, boolean balancedStart, long deadline) {
+            int flights = groupCount();
+            int[] order = balancedStart ? snakeDraft() : shuffled(random);
+            double[] flightSum = new double[flights];
+            int[] flightRepeats = new int[flights];
+            for (int f = 0; f < flights; f++) {
+                for (int p = flightStart[f]; p < flightStart[f + 1]; p++) {
+                    flightSum[f] += handicaps[order[p]];
+                    for (int q = p + 1; q < flightStart[f + 1]; q++) {
+                        flightRepeats[f] += together(order[p], order[q]);
+                    }
+                }
+            }
+
+            double cost = 0;
+            int repeats = 0;
+            for (int f = 0; f < flights; f++) {
+                cost += balance(flightSum[f], f) + REPEAT_PAIR_PENALTY * flightRepeats[f];
+                repeats += flightRepeats[f];
+            }
+            int[] bestOrder = order.clone();
+            double bestCost = cost;
+            int bestRepeats = repeats;
+            if (flights < 2) {
+                return new Candidate(bestOrder, bestCost, bestRepeats, 0);
+            }
+
+            long started = System.nanoTime();
+            double budget = deadline - started;
+            double temperature = START_TEMPERATURE;
+            long iterations = 0;
+            while (true) {
+                if (iterations % DEADLINE_CHECK_INTERVAL == 0) {
+                    long now = System.nanoTime();
+                    if (now >= deadline) {
+                        break;
+                    }
+                    temperature = START_TEMPERATURE * (deadline - now) / budget;
+                }
+                iterations++;
+
+                int pa = random.nextInt(size);
+                int pb = random.nextInt(size);
+                int fa = flightOfPosition[pa];
+                int fb = flightOfPosition[pb];
+                if (fa == fb) {
+                    continue;
+                }
+                int a = order[pa];
+                int b = order[pb];
+
+                int repeatDeltaA = 0;
+                for (int q = flightStart[fa]; q < flightStart[fa + 1]; q++) {
+                    if (q != pa) {
+                        repeatDeltaA += together(b, order[q]) - together(a, order[q]);
+                    }
+                }
+                int repeatDeltaB = 0;
+                for (int q = flightStart[fb]; q < flightStart[fb + 1]; q++) {
+                    if (q != pb) {
+                        repeatDeltaB += together(a, order[q]) - together(b, order[q]);
+                    }
+                }
+                double newSumA = flightSum[fa] - handicaps[a] + handicaps[b];
+                double newSumB = flightSum[fb] - handicaps[b] + handicaps[a];
+                double delta = balance(newSumA, fa) + balance(newSumB, fb)
+                        - balance(flightSum[fa], fa) - balance(flightSum[fb], fb)
+                        + REPEAT_PAIR_PENALTY * (repeatDeltaA + repeatDeltaB);
+
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / Math.max(temperature, 1e-6))) {
+                    order[pa] = b;
+                    order[pb] = a;
+                    flightSum[fa] = newSumA;
+                    flightSum[fb] = newSumB;
+                    flightRepeats[fa] += repeatDeltaA;
+                    flightRepeats[fb] += repeatDeltaB;
+                    cost += delta;
+                    repeats += repeatDeltaA + repeatDeltaB;
+                    if (cost < bestCost - 1e-9) {
+                        bestCost = cost;
+                        bestRepeats = repeats;
+                        System.arraycopy(order, 0, bestOrder, 0, size);
+                    }
+                }
+            }
+            return new Candidate(bestOrder, bestCost, bestRepeats, iterations);
+        }
+
+        List<Flight> toFlights(int[] order, PairingOptions options) {
+            List<Flight> flights = new ArrayList<>(groupCount());
+            for (int f = 0; f < groupCount(); f++) {
+                List<Flight.Player> flightPlayers = new ArrayList<>();
+                double sum = 0;
+                for (int p = flightStart[f]; p < flightStart[f + 1]; p++) {
+                    flightPlayers.add(players.get(order[p]));
+                    sum += handicaps[order[p]];
+                }
+                LocalTime teeTime = options.firstTeeTime().plusMinutes((long) f * options.intervalMinutes());
+                flights.add(new Flight(f + 1, teeTime, flightPlayers, sum / flightPlayers.size()));
+            }
+            return flights;
+        }
+
+        private int together(int a, int b) {
+            return playedTogether.get(a * size + b) ? 1 : 0;
+        }
+
+        private double balance(double flightSum, int flight) {
+            double deviation = flightSum / (flightStart[flight + 1] - flightStart[flight]) - fieldAverage;
+            return deviation * deviation;
+        }
+
+        private int[] shuffled(SplittableRandom random) {
+            int[] order = IntStream.range(0, size).toArray();
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            return order;
+        }
+
+        // Deals players back and forth across the flights in handicap order: 0,1,2,2,1,0,0,1...
+        private int[] snakeDraft() {
+            int flights = groupCount();
+            List<Integer> byHandicap = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+            byHandicap.sort(Comparator.comparingDouble(i -> handicaps[i]));
+
+            int[] filled = new int[flights];
+            int[] order = new int[size];
+            int flight = 0;
+            int step = 1;
+            for (int player : byHandicap) {
+                while (flightStart[flight] + filled[flight] >= flightStart[flight + 1]) {
+                    int next = flight + step;
+                    if (next < 0 || next >= flights) {
+                        step = -step;
+                    } else {
+                        flight = next;
+                    }
+                }
+                order[flightStart[flight] + filled[flight]++] = player;
+                int next = flight + step;
+                if (next < 0 || next >= flights) {
+                    step = -step;
+                } else {
+                    flight = next;
+                }
+            }
+            return order;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.golfclub.scheduling;
+
+/**
+ * The pairing search did not finish in time, usually because the pool was
+ * busy with other searches. Worth retrying later.
+ */
+public class PairingTimeoutException extends RuntimeException {
+
+    public PairingTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
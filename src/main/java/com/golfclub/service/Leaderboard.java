@@ -0,0 +1,84 @@
+package com.golfclub.service;
+
+import com.golfclub.model.HoleScore;
+import com.golfclub.model.LeaderboardEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Live leaderboard for one in-progress tournament. Recording a score is a
+ * lock-free update of the player's card; standings are computed from a
+ * snapshot of the cards when read. Players are ranked by holes played,
+ * then by fewest strokes.
+ */
+class Leaderboard {
+    private static final Comparator<LeaderboardEntry> STANDINGS =
+            Comparator.comparingInt(LeaderboardEntry::holesPlayed).reversed()
+                    .thenComparingInt(LeaderboardEntry::totalStrokes);
+
+    private final Long tournamentId;
+    private final Map<Long, Card> cards = new ConcurrentHashMap<>();
+
+    Leaderboard(Long tournamentId, Collection<Long> participantIds) {
+        this.tournamentId = tournamentId;
+        for (Long memberId : participantIds) {
+            cards.put(memberId, new Card());
+        }
+    }
+
+    Long getTournamentId() {
+        return tournamentId;
+    }
+
+    boolean isParticipant(Long memberId) {
+        return cards.containsKey(memberId);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the member is not playing in this tournament
+     */
+    void record(HoleScore score) {
+        Card card = cards.get(score.memberId());
+        if (card == null) {
+            throw new IllegalArgumentException("Member is not registered for this tournament");
+        }
+        card.record((score.round() - 1) * HoleScore.HOLES_PER_ROUND + score.hole() - 1, score.strokes());
+    }
+
+    List<LeaderboardEntry> standings() {
+        List<LeaderboardEntry> unranked = new ArrayList<>(cards.size());
+        cards.forEach((memberId, card) ->
+                unranked.add(new LeaderboardEntry(0, memberId, card.total.get(), card.holesPlayed.get())));
+        unranked.sort(STANDINGS);
+
+        List<LeaderboardEntry> ranked = new ArrayList<>(unranked.size());
+        for (int i = 0; i < unranked.size(); i++) {
+            LeaderboardEntry entry = unranked.get(i);
+            boolean tied = i > 0 && STANDINGS.compare(unranked.get(i - 1), entry) == 0;
+            int position = tied ? ranked.get(i - 1).position() : i + 1;
+            ranked.add(new LeaderboardEntry(position, entry.memberId(), entry.totalStrokes(), entry.holesPlayed()));
+        }
+        return ranked;
+    }
+
+    private static final class Card {
+        private final AtomicIntegerArray strokes =
+                new AtomicIntegerArray(HoleScore.MAX_ROUNDS * HoleScore.HOLES_PER_ROUND);
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger holesPlayed = new AtomicInteger();
+
+        void record(int slot, int value) {
+            int previous = strokes.getAndSet(slot, value);
+            total.addAndGet(value - previous);
+            if (previous == 0) {
+                holesPlayed.incrementAndGet();
+            }
+        }
+    }
+}
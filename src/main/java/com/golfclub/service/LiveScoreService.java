@@ -0,0 +1,115 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.HoleScore;
+import com.golfclub.model.LeaderboardEntry;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.HoleScoreStore;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.sharding.ClubContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accepts hole-by-hole scores for in-progress tournaments. Scores update
+ * the tournament's in-memory {@link Leaderboard} and are queued on the
+ * {@link ScoreWriteBehind} buffer; nothing on the ingestion path waits
+ * for the database once a leaderboard is open. A batch is queued whole
+ * before it reaches the board, so a rejected batch leaves no trace and
+ * can be retried.
+ */
+@Service
+public class LiveScoreService {
+    private final TournamentRepo tournamentRepository;
+    private final HoleScoreStore scoreStore;
+    private final ScoreWriteBehind writeBehind;
+    // Keyed by club as well, so a club can only reach its own tournaments' boards
+    private final Map<BoardKey, Leaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LiveScoreService(TournamentRepo tournamentRepository, HoleScoreStore scoreStore,
+                            ScoreWriteBehind writeBehind) {
+        this.tournamentRepository = tournamentRepository;
+        this.scoreStore = scoreStore;
+        this.writeBehind = writeBehind;
+    }
+
+    public int submitScores(Long tournamentId, List<HoleScore> scores) {
+        Leaderboard leaderboard = openLeaderboard(tournamentId);
+        for (HoleScore score : scores) {
+            score.validate();
+            if (!leaderboard.isParticipant(score.memberId())) {
+                throw new IllegalArgumentException("Member is not registered for this tournament");
+            }
+        }
+        List<HoleScore> scored = scores.stream()
+                .map(score -> score.withTournamentId(tournamentId))
+                .toList();
+        writeBehind.enqueueAll(ClubContext.current(), scored);
+        scored.forEach(leaderboard::record);
+        return scores.size();
+    }
+
+    public List<LeaderboardEntry> getLeaderboard(Long tournamentId) {
+        return openLeaderboard(tournamentId).standings();
+    }
+
+    /**
+     * Standings used when a tournament is completed. The open board already
+     * holds every accepted score, buffered or not, so the result doesn't
+     * wait for the write-behind buffer; the background writer stores them
+     * through each club's own shard, outside the caller's transaction.
+     * Without an open board no scores are buffered here and the stored
+     * ones are complete.
+     */
+    public List<LeaderboardEntry> finalStandings(Long tournamentId) {
+        Leaderboard leaderboard = leaderboards.get(new BoardKey(ClubContext.current(), tournamentId));
+        return (leaderboard != null ? leaderboard : loadLeaderboard(tournamentId)).standings();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        if (event.isDeleted() || event.entry().status() != Tournament.TournamentStatus.IN_PROGRESS) {
+            leaderboards.remove(new BoardKey(event.clubId(), event.tournamentId()));
+        }
+    }
+
+    private Leaderboard openLeaderboard(Long tournamentId) {
+        BoardKey key = new BoardKey(ClubContext.current(), tournamentId);
+        Leaderboard leaderboard = leaderboards.get(key);
+        if (leaderboard != null) {
+            return leaderboard;
+        }
+        synchronized (leaderboards) {
+            leaderboard = leaderboards.get(key);
+            if (leaderboard == null) {
+                Tournament tournament = tournamentRepository.findById(tournamentId)
+                        .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+                if (tournament.getStatus() != Tournament.TournamentStatus.IN_PROGRESS) {
+                    throw new IllegalStateException("Tournament is not in progress");
+                }
+                leaderboard = loadLeaderboard(tournamentId);
+                leaderboards.put(key, leaderboard);
+            }
+            return leaderboard;
+        }
+    }
+
+    // Rebuilds a leaderboard from the stored scores, e.g. after a restart
+    private Leaderboard loadLeaderboard(Long tournamentId) {
+        Leaderboard leaderboard = new Leaderboard(tournamentId, tournamentRepository.findParticipantIds(tournamentId));
+        for (HoleScore score : scoreStore.findByTournament(tournamentId)) {
+            if (leaderboard.isParticipant(score.memberId())) {
+                leaderboard.record(score);
+            }
+        }
+        return leaderboard;
+    }
+
+    private record BoardKey(String clubId, Long tournamentId) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.TournamentCalendarEntry;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One member's registrations as parallel arrays of epoch days, sorted by
+ * start day. {@code maxEnd[i]} is the latest end day among the first
+ * {@code i + 1} registrations, so finding the overlaps of a date range
+ * is a binary search plus a walk over the matches, even when older
+ * registrations already overlap each other. Immutable.
+ */
+final class MemberSchedule {
+    private final Long version;
+    private final long[] tournamentIds;
+    private final long[] startDays;
+    private final long[] endDays;
+    private final long[] maxEnd;
+
+    /**
+     * @param version the member's version the rows were read at
+     * @param rows    tournament id, start date and end date, ordered by start date
+     */
+    MemberSchedule(Long version, List<Object[]> rows) {
+        int size = rows.size();
+        this.version = version;
+        this.tournamentIds = new long[size];
+        this.startDays = new long[size];
+        this.endDays = new long[size];
+        this.maxEnd = new long[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            tournamentIds[i] = ((Number) row[0]).longValue();
+            startDays[i] = epochDay(row[1]);
+            endDays[i] = epochDay(row[2]);
+            maxEnd[i] = i == 0 ? endDays[i] : Math.max(maxEnd[i - 1], endDays[i]);
+        }
+    }
+
+    Long version() {
+        return version;
+    }
+
+    /**
+     * Ids of the tournaments overlapping the range, by start date.
+     */
+    List<Long> overlapping(LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        List<Long> ids = new ArrayList<>();
+        for (int i = lastStartingBy(to.toEpochDay()); i >= 0 && maxEnd[i] >= fromDay; i--) {
+            if (endDays[i] >= fromDay) {
+                ids.add(tournamentIds[i]);
+            }
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    /**
+     * The dates the member is registered for the tournament, as an entry
+     * without location or status.
+     */
+    Optional<TournamentCalendarEntry> datesOf(long tournamentId) {
+        for (int i = 0; i < tournamentIds.length; i++) {
+            if (tournamentIds[i] == tournamentId) {
+                return Optional.of(new TournamentCalendarEntry(tournamentId, LocalDate.ofEpochDay(startDays[i]),
+                        LocalDate.ofEpochDay(endDays[i]), null, null));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the change moves or removes one of this member's tournaments.
+     */
+    boolean isStale(TournamentChangedEvent event) {
+        for (int i = 0; i < tournamentIds.length; i++) {
+            if (tournamentIds[i] == event.tournamentId()) {
+                return event.isDeleted()
+                        || event.entry().startDate().toEpochDay() != startDays[i]
+                        || event.entry().endDate().toEpochDay() != endDays[i];
+            }
+        }
+        return false;
+    }
+
+    // Index of the last registration starting on or before the day, or -1
+    private int lastStartingBy(long day) {
+        int low = 0;
+        int high = startDays.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private static long epochDay(Object value) {
+        LocalDate date = value instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) value;
+        return date.toEpochDay();
+    }
+}
@@ -0,0 +1,94 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.repository.MemberRepo;
+import com.golfclub.sharding.ClubContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link MemberSchedule} per member, one map per club, used to
+ * reject overlapping registrations without loading the member's
+ * tournaments. A schedule is read from the covering index on
+ * tournament_members on first use and read again once the member's
+ * version has moved on, which every registration change forces. Moved
+ * and deleted tournaments arrive as {@link TournamentChangedEvent}s.
+ */
+@Component
+public class MemberScheduleIndex {
+    private final MemberRepo memberRepository;
+    private final TournamentCalendarIndex calendarIndex;
+    private final Map<String, Map<Long, MemberSchedule>> schedules = new ConcurrentHashMap<>();
+
+    public MemberScheduleIndex(MemberRepo memberRepository, TournamentCalendarIndex calendarIndex) {
+        this.memberRepository = memberRepository;
+        this.calendarIndex = calendarIndex;
+    }
+
+    /**
+     * The first tournament the member is registered for whose dates
+     * overlap the given tournament's. Cancelled tournaments don't count.
+     * The overlap is decided on the registration rows; the calendar only
+     * says whether a tournament was cancelled. One the calendar doesn't
+     * know yet, created on another instance say, still counts.
+     */
+    public Optional<TournamentCalendarEntry> findConflict(Member member, Tournament tournament) {
+        MemberSchedule schedule = schedule(member);
+        for (Long id : schedule.overlapping(tournament.getStartDate(), tournament.getEndDate())) {
+            if (id.equals(tournament.getId())) {
+                continue;
+            }
+            Optional<TournamentCalendarEntry> entry = calendarIndex.find(id);
+            if (entry.isEmpty()) {
+                return schedule.datesOf(id);
+            }
+            if (entry.get().status() != Tournament.TournamentStatus.CANCELLED) {
+                return entry;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The member's tournaments overlapping the range, by start date.
+     */
+    public List<TournamentCalendarEntry> findSchedule(Member member, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        return schedule(member).overlapping(from, to).stream()
+                .map(calendarIndex::find)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    // Visits every cached schedule of the club; tournaments change far less often than registrations
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        Map<Long, MemberSchedule> club = schedules.get(event.clubId());
+        if (club != null) {
+            club.values().removeIf(schedule -> schedule.isStale(event));
+        }
+    }
+
+    // A registration reads in its own transaction, so the rows match the member's version
+    private MemberSchedule schedule(Member member) {
+        Map<Long, MemberSchedule> club = schedules.computeIfAbsent(ClubContext.current(),
+                key -> new ConcurrentHashMap<>());
+        MemberSchedule schedule = club.get(member.getId());
+        if (schedule == null || !Objects.equals(schedule.version(), member.getVersion())) {
+            schedule = new MemberSchedule(member.getVersion(), memberRepository.findScheduleRows(member.getId()));
+            club.put(member.getId(), schedule);
+        }
+        return schedule;
+    }
+}
@@ -1,22 +1,46 @@
 package com.golfclub.service;
 
+import com.golfclub.coalescing.ReadCoalescer;
 import com.golfclub.model.Member;
+import com.golfclub.model.ParticipantSummary;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
 import com.golfclub.repository.MemberRepo;
+import com.golfclub.sharding.ShardQueryExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class MemberService {
+    static final int MAX_IDS_PER_LOOKUP = 200;
+
     private final MemberRepo memberRepository;
+    private final ShardQueryExecutor shardQueries;
+    private final MemberScheduleIndex scheduleIndex;
+    private final ReadCoalescer reads;
+    private final TournamentService tournamentService;
 
     @Autowired
-    public MemberService(MemberRepo memberRepository) {
+    public MemberService(MemberRepo memberRepository, ShardQueryExecutor shardQueries,
+                         MemberScheduleIndex scheduleIndex, ReadCoalescer reads,
+                         TournamentService tournamentService) {
         this.memberRepository = memberRepository;
+        this.shardQueries = shardQueries;
+        this.scheduleIndex = scheduleIndex;
+        this.reads = reads;
+        this.tournamentService = tournamentService;
     }
 
     public Member saveMember(Member member) {
@@ -35,18 +59,55 @@ public class MemberService {
         }
     }
 
-    @Transactional(readOnly = true)
+    // Coalesced reads don't open a transaction of their own; see ReadCoalescer
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<Member> getMemberById(Long id) {
-        return memberRepository.findById(id);
+        return reads.execute("member-by-id", id,
+                () -> memberRepository.findAllWithTournamentsByIdIn(List.of(id)).stream().findFirst());
     }
 
+    /**
+     * Members with the given ids in request order; unknown ids are skipped.
+     */
     @Transactional(readOnly = true)
+    public List<Member> getMembersByIds(Collection<Long> ids) {
+        if (ids.size() > MAX_IDS_PER_LOOKUP) {
+            throw new IllegalArgumentException("At most " + MAX_IDS_PER_LOOKUP + " ids per lookup");
+        }
+        List<Long> wanted = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Member> found = memberRepository.findAllWithTournamentsByIdIn(wanted).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return wanted.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Tournaments the member is registered for that overlap the range.
+     * Runs without a transaction so it holds no connection while the
+     * member lookup waits on the coalescer.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TournamentCalendarEntry> getSchedule(Long memberId, LocalDate from, LocalDate to) {
+        Member member = getMemberById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        return scheduleIndex.findSchedule(member, from, to);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Member> getAllMembers() {
-        return memberRepository.findAll();
+        return reads.execute("all-members", null, memberRepository::findAll);
     }
 
+    // Unregisters the member first, so participant counts drop and waitlists move up
     public void deleteMember(Long id) {
-        memberRepository.deleteById(id);
+        memberRepository.findById(id).ifPresent(member -> {
+            for (Long tournamentId : member.getTournaments().stream().map(Tournament::getId).toList()) {
+                tournamentService.removeMemberFromTournament(tournamentId, id);
+            }
+            memberRepository.delete(member);
+        });
     }
 
     public Member updateMember(Long id, Member updatedMember) {
@@ -61,6 +122,7 @@ public class MemberService {
                     existing.setMemberPhone(updatedMember.getMemberPhone());
                     existing.setStartDate(updatedMember.getStartDate());
                     existing.setDuration(updatedMember.getDuration());
+                    existing.setHandicap(updatedMember.getHandicap());
                     return memberRepository.save(existing);
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
@@ -76,9 +138,9 @@ public class MemberService {
         return memberRepository.findByMemberPhoneContaining(phone);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Member> findByStatus(Member.MembershipStatus status) {
-        return memberRepository.findByStatus(status);
+        return reads.execute("members-by-status", status, () -> memberRepository.findByStatus(status));
     }
 
     @Transactional(readOnly = true)
@@ -94,9 +156,10 @@ public class MemberService {
                 });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Member> findActiveMembers() {
-        return memberRepository.findActiveMembers(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        return reads.execute("active-members", today, () -> memberRepository.findActiveMembers(today));
     }
 
     @Transactional(readOnly = true)
@@ -109,6 +172,21 @@ public class MemberService {
         return memberRepository.findTopParticipants();
     }
 
+    // Top members of every club, merged from each shard's own top list
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ParticipantSummary> findTopParticipantsGlobal(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return shardQueries.onEveryShard(() -> memberRepository.findShardTopParticipants(limit)).stream()
+                .flatMap(List::stream)
+                .map(ParticipantSummary::fromRow)
+                .sorted(Comparator.comparingInt(ParticipantSummary::totalTournamentsPlayed).reversed()
+                        .thenComparing(ParticipantSummary::memberId))
+                .limit(limit)
+                .toList();
+    }
+
     public Member updateMembershipDuration(Long memberId, Integer additionalMonths) {
         return memberRepository.findById(memberId)
                 .map(member -> {
@@ -0,0 +1,110 @@
+package com.golfclub.service;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.scheduling.Flight;
+import com.golfclub.scheduling.PairingOptions;
+import com.golfclub.scheduling.PairingPlan;
+import com.golfclub.scheduling.PairingScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Reads the roster and past pairings in a short read-only transaction,
+ * then searches with no connection held. The search never runs longer
+ * than {@code golfclub.pairings.max-time-budget-ms}, whatever is asked.
+ * <p>
+ * Each search keeps every worker of the pairing pool busy, so at most
+ * {@code golfclub.pairings.max-concurrent} run at a time; further requests
+ * are rejected rather than queued. Past pairings only count back
+ * {@code golfclub.pairings.lookback-days}, and the archive is only read
+ * when that reaches past the archive's retention period.
+ */
+@Service
+public class PairingService {
+    private final TournamentRepo tournamentRepository;
+    private final PairingScheduler pairingScheduler;
+    private final TransactionTemplate readOnly;
+    private final long maxTimeBudgetMs;
+    private final Semaphore searches;
+    private final int lookbackDays;
+    private final boolean lookbackReachesArchive;
+
+    @Autowired
+    public PairingService(TournamentRepo tournamentRepository, PairingScheduler pairingScheduler,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${golfclub.pairings.max-time-budget-ms:10000}") long maxTimeBudgetMs,
+                          @Value("${golfclub.pairings.max-concurrent:1}") int maxConcurrent,
+                          @Value("${golfclub.pairings.lookback-days:365}") int lookbackDays,
+                          @Value("${golfclub.archive.retention-days:365}") int archiveRetentionDays) {
+        this.tournamentRepository = tournamentRepository;
+        this.pairingScheduler = pairingScheduler;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.maxTimeBudgetMs = maxTimeBudgetMs;
+        this.searches = new Semaphore(maxConcurrent);
+        this.lookbackDays = lookbackDays;
+        this.lookbackReachesArchive = lookbackDays > archiveRetentionDays;
+    }
+
+    /**
+     * @throws RejectedExecutionException if {@code golfclub.pairings.max-concurrent} searches are already running
+     */
+    public PairingPlan generatePairings(Long tournamentId, PairingOptions options) {
+        if (!searches.tryAcquire()) {
+            throw new RejectedExecutionException("Too many pairing searches running");
+        }
+        try {
+            Roster roster = readOnly.execute(status -> loadRoster(tournamentId));
+            PairingOptions bounded = options.timeBudgetMs() <= maxTimeBudgetMs ? options
+                    : new PairingOptions(options.groupSize(), options.firstTeeTime(), options.lastTeeTime(),
+                            options.intervalMinutes(), maxTimeBudgetMs);
+            return pairingScheduler.schedule(tournamentId, roster.players(), roster.pastPartners(), bounded);
+        } finally {
+            searches.release();
+        }
+    }
+
+    private Roster loadRoster(Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+
+        List<Flight.Player> players = tournament.getParticipatingMembers().stream()
+                .sorted(Comparator.comparing(Member::getId))
+                .map(m -> new Flight.Player(m.getId(), m.getMemberName(), m.getHandicap()))
+                .toList();
+        if (players.isEmpty()) {
+            throw new IllegalStateException("Tournament has no participants");
+        }
+
+        Map<Long, Set<Long>> pastPartners = new HashMap<>();
+        List<Long> memberIds = players.stream().map(Flight.Player::memberId).toList();
+        LocalDate since = LocalDate.now().minusDays(lookbackDays);
+        List<Object[]> pairs = new ArrayList<>(tournamentRepository.findPastPairings(memberIds, since));
+        if (lookbackReachesArchive) {
+            pairs.addAll(tournamentRepository.findArchivedPastPairings(memberIds, since));
+        }
+        for (Object[] pair : pairs) {
+            pastPartners.computeIfAbsent(((Number) pair[0]).longValue(), id -> new HashSet<>())
+                    .add(((Number) pair[1]).longValue());
+        }
+        return new Roster(players, pastPartners);
+    }
+
+    private record Roster(List<Flight.Player> players, Map<Long, Set<Long>> pastPartners) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.golfclub.service;
+
+import com.golfclub.analytics.CoPlayer;
+import com.golfclub.analytics.ParticipationHistogram;
+import com.golfclub.analytics.PlayingPair;
+import com.golfclub.analytics.RosterAnalytics;
+import com.golfclub.analytics.RosterGraphStats;
+import com.golfclub.analytics.SimilarTournament;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+/**
+ * Co-participation analytics for the current club, answered from the
+ * in-memory roster graph without touching the database. Members and
+ * tournaments without registrations simply have no results.
+ */
+@Service
+public class RosterAnalyticsService {
+    static final int MAX_LIMIT = 1000;
+
+    private final RosterGraphIndex graphIndex;
+    private final RosterAnalytics analytics;
+
+    @Autowired
+    public RosterAnalyticsService(RosterGraphIndex graphIndex, RosterAnalytics analytics) {
+        this.graphIndex = graphIndex;
+        this.analytics = analytics;
+    }
+
+    public List<CoPlayer> findCoPlayers(Long memberId, int limit) {
+        checkLimit(limit);
+        return analytics.coPlayers(graphIndex.graph(), memberId, limit);
+    }
+
+    public List<PlayingPair> findFrequentPairs(int minShared, int limit) {
+        checkLimit(limit);
+        if (minShared < 1) {
+            throw new IllegalArgumentException("Minimum shared tournaments must be positive");
+        }
+        return analytics.frequentPairs(graphIndex.graph(), minShared, limit);
+    }
+
+    public List<SimilarTournament> findSimilarTournaments(Long tournamentId, int limit) {
+        checkLimit(limit);
+        return analytics.similarTournaments(graphIndex.graph(), tournamentId, limit);
+    }
+
+    public ParticipationHistogram getParticipationHistogram() {
+        return analytics.participationHistogram(graphIndex.graph());
+    }
+
+    public RosterGraphStats getGraphStats() {
+        return RosterGraphStats.of(graphIndex.graph());
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
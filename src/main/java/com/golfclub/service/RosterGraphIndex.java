@@ -0,0 +1,228 @@
+package com.golfclub.service;
+
+import com.golfclub.analytics.RosterGraph;
+import com.golfclub.event.RegistrationChangedEvent;
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.sharding.ClubContext;
+import com.golfclub.sharding.ClubShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One {@link RosterGraph} per club. A club's graph is built on first use
+ * by streaming its tournament_members rows, then kept current from
+ * {@link RegistrationChangedEvent}s and tournament deletions published
+ * after commit. Changes are queued, and the next reader lays them over
+ * the graph with {@link RosterGraph#withChanges}, which only copies the
+ * rows they touch. Once the changes since the last layout pass a 32nd of
+ * the graph, the reader that notices compacts it into fresh arrays while
+ * other readers keep using the overlay. A club whose queue grows past an
+ * eighth of its graph without being read is dropped and scanned again
+ * when next needed.
+ */
+@Component
+public class RosterGraphIndex {
+    private static final Logger log = LoggerFactory.getLogger(RosterGraphIndex.class);
+    private static final int MIN_PENDING_LIMIT = 10_000;
+    private static final int MIN_COMPACT_THRESHOLD = 1024;
+
+    private final ClubShardRouter router;
+    private final boolean offHeap;
+    private final Map<String, ClubGraph> graphs = new ConcurrentHashMap<>();
+
+    public RosterGraphIndex(ClubShardRouter router,
+                            @Value("${golfclub.analytics.off-heap:false}") boolean offHeap) {
+        this.router = router;
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * The current club's graph, including every change committed so far.
+     */
+    public RosterGraph graph() {
+        String clubId = ClubContext.current();
+        while (true) {
+            RosterGraph graph = graphs.computeIfAbsent(clubId, ClubGraph::new).current();
+            if (graph != null) {
+                return graph;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationChanged(RegistrationChangedEvent event) {
+        ClubGraph graph = graphs.get(event.clubId());
+        if (graph != null) {
+            graph.pendingEdges.put(new Edge(event.memberId(), event.tournamentId()), event.registered());
+            graph.trimIfBehind();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        ClubGraph graph = graphs.get(event.clubId());
+        if (graph != null && event.isDeleted()) {
+            graph.removedTournaments.add(event.tournamentId());
+            graph.trimIfBehind();
+        }
+    }
+
+    private RosterGraph scan(String clubId) {
+        long started = System.nanoTime();
+        RosterGraph.Builder builder = new RosterGraph.Builder(offHeap);
+        JdbcTemplate jdbc = new JdbcTemplate(router.dataSource(router.shardFor(clubId)));
+        // A fetch size of Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the result
+        jdbc.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT tm.member_id, tm.tournament_id FROM tournament_members tm " +
+                            "JOIN tournaments t ON t.id = tm.tournament_id WHERE t.club_id = ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setString(1, clubId);
+            return statement;
+        }, (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getLong(2)));
+        RosterGraph graph = builder.build();
+        log.info("Built roster graph for club {}: {} registrations, {} bytes, {} ms", clubId, graph.edgeCount(),
+                graph.footprintBytes(), (System.nanoTime() - started) / 1_000_000);
+        return graph;
+    }
+
+    private record Edge(long memberId, long tournamentId) {
+    }
+
+    /**
+     * A club's graph and the changes not merged into it yet. Changes are
+     * recorded from the moment the entry exists, including while the first
+     * scan runs; replaying one the scan already saw is harmless because
+     * the latest change to an edge wins.
+     */
+    private final class ClubGraph {
+        private final String clubId;
+        private final Map<Edge, Boolean> pendingEdges = new ConcurrentHashMap<>();
+        private final Set<Long> removedTournaments = ConcurrentHashMap.newKeySet();
+        private final ReentrantLock lock = new ReentrantLock();
+        // Guarded by lock: the last layout, the changes since, and the two combined
+        private final Map<Edge, Boolean> changedEdges = new HashMap<>();
+        private final Set<Long> changedTournaments = new HashSet<>();
+        private RosterGraph base;
+        private RosterGraph graph;
+        private boolean compacting;
+        private boolean retired;
+
+        ClubGraph(String clubId) {
+            this.clubId = clubId;
+        }
+
+        /**
+         * @return the graph with every queued change, or null if this entry was dropped and the caller should look again
+         */
+        RosterGraph current() {
+            Map<Edge, Boolean> compactedEdges;
+            Set<Long> compactedTournaments;
+            RosterGraph overlaid;
+            lock.lock();
+            try {
+                if (retired) {
+                    return null;
+                }
+                if (base == null) {
+                    base = scan(clubId);
+                    graph = base;
+                }
+                if (!pendingEdges.isEmpty() || !removedTournaments.isEmpty()) {
+                    takePending();
+                    graph = base.withChanges(changes());
+                }
+                if (compacting || changedEdges.size() + changedTournaments.size()
+                        <= Math.max(MIN_COMPACT_THRESHOLD, base.edgeCount() / 32)) {
+                    return graph;
+                }
+                compacting = true;
+                overlaid = graph;
+                compactedEdges = new HashMap<>(changedEdges);
+                compactedTournaments = new HashSet<>(changedTournaments);
+            } finally {
+                lock.unlock();
+            }
+            return compact(overlaid, compactedEdges, compactedTournaments);
+        }
+
+        // Runs on the committing thread, so it never waits for a scan in progress
+        void trimIfBehind() {
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                if (base != null && pendingEdges.size() + removedTournaments.size()
+                        > Math.max(MIN_PENDING_LIMIT, base.edgeCount() / 8)) {
+                    retired = true;
+                    graphs.remove(clubId, this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void takePending() {
+            Map<Edge, Boolean> edges = new HashMap<>(pendingEdges);
+            Set<Long> removed = new HashSet<>(removedTournaments);
+            edges.forEach(pendingEdges::remove);
+            removedTournaments.removeAll(removed);
+            changedEdges.putAll(edges);
+            changedTournaments.addAll(removed);
+        }
+
+        private RosterGraph.Changes changes() {
+            RosterGraph.Changes changes = new RosterGraph.Changes();
+            changedEdges.forEach((edge, registered) -> {
+                if (registered) {
+                    changes.register(edge.memberId(), edge.tournamentId());
+                } else {
+                    changes.unregister(edge.memberId(), edge.tournamentId());
+                }
+            });
+            changedTournaments.forEach(changes::removeTournament);
+            return changes;
+        }
+
+        // Lays the graph out again without the lock; changes that arrive meanwhile stay in the overlay
+        private RosterGraph compact(RosterGraph overlaid, Map<Edge, Boolean> compactedEdges,
+                                    Set<Long> compactedTournaments) {
+            RosterGraph compacted = null;
+            try {
+                compacted = overlaid.compact();
+            } finally {
+                lock.lock();
+                try {
+                    compacting = false;
+                    if (compacted != null && !retired) {
+                        base = compacted;
+                        // Only drops changes that weren't overwritten while compacting
+                        compactedEdges.forEach(changedEdges::remove);
+                        changedTournaments.removeAll(compactedTournaments);
+                        graph = changedEdges.isEmpty() && changedTournaments.isEmpty()
+                                ? base
+                                : base.withChanges(changes());
+                        compacted = graph;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return compacted;
+        }
+    }
+}
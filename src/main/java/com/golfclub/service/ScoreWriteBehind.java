@@ -0,0 +1,163 @@
+package com.golfclub.service;
+
+import com.golfclub.model.HoleScore;
+import com.golfclub.repository.HoleScoreStore;
+import com.golfclub.sharding.ClubContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded write-behind buffer for hole scores. Ingestion only enqueues;
+ * a single background thread drains the queue every flush interval and
+ * writes it to the database in batches. Each score remembers its club so
+ * it is written to that club's shard.
+ */
+@Component
+public class ScoreWriteBehind {
+    private static final Logger log = LoggerFactory.getLogger(ScoreWriteBehind.class);
+
+    private final HoleScoreStore scoreStore;
+    private final BlockingQueue<PendingScore> pending;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+    // Batch being written; kept after a transient failure so it is retried first
+    private final List<PendingScore> batch = new ArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+
+    public ScoreWriteBehind(HoleScoreStore scoreStore,
+                            @Value("${golfclub.scores.buffer-capacity:100000}") int capacity,
+                            @Value("${golfclub.scores.batch-size:1000}") int batchSize,
+                            @Value("${golfclub.scores.flush-interval-ms:100}") long flushIntervalMs) {
+        this.scoreStore = scoreStore;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @throws RejectedExecutionException if the buffer is full
+     */
+    public void enqueue(String clubId, HoleScore score) {
+        enqueueAll(clubId, List.of(score));
+    }
+
+    /**
+     * Queues all of the scores or, if they don't all fit, none of them.
+     * Only enqueuers add to the queue and they take turns, so the capacity
+     * checked is still there when the scores are added.
+     *
+     * @throws RejectedExecutionException if the buffer can't take them all
+     */
+    public void enqueueAll(String clubId, List<HoleScore> scores) {
+        synchronized (pending) {
+            if (pending.remainingCapacity() < scores.size()) {
+                throw new RejectedExecutionException("Score buffer is full");
+            }
+            for (HoleScore score : scores) {
+                pending.add(new PendingScore(clubId, score));
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes everything queued so far. Draining and writing happen under
+     * one lock so batches reach the database in the order they were queued.
+     */
+    public synchronized void flush() {
+        if (batch.isEmpty()) {
+            pending.drainTo(batch, batchSize);
+        }
+        while (!batch.isEmpty()) {
+            writeByClub();
+            batch.clear();
+            pending.drainTo(batch, batchSize);
+        }
+    }
+
+    // Writes each run of same-club scores as the club; a transient failure leaves the unwritten rest in the batch
+    private void writeByClub() {
+        int start = 0;
+        while (start < batch.size()) {
+            String clubId = batch.get(start).clubId();
+            int end = start + 1;
+            while (end < batch.size() && batch.get(end).clubId().equals(clubId)) {
+                end++;
+            }
+            List<HoleScore> scores = batch.subList(start, end).stream().map(PendingScore::score).toList();
+            write(clubId, scores);
+            batch.subList(start, end).clear();
+        }
+    }
+
+    /**
+     * Writes the scores, splitting them in halves around rows the database
+     * rejects for good (a deleted tournament or member, say) and dropping
+     * those rows, so one bad score cannot hold up the queue. Transient
+     * failures propagate and the batch is retried; upserts make rewriting
+     * the part that already succeeded harmless.
+     */
+    private void write(String clubId, List<HoleScore> scores) {
+        try {
+            ClubContext.runAs(clubId, () -> scoreStore.upsertAll(scores));
+        } catch (NonTransientDataAccessException e) {
+            if (e instanceof DataAccessResourceFailureException) {
+                throw e;
+            }
+            if (scores.size() == 1) {
+                dropped.increment();
+                log.error("Dropping score {} for club {}: rejected by the database", scores.get(0), clubId, e);
+                return;
+            }
+            int middle = scores.size() / 2;
+            write(clubId, scores.subList(0, middle));
+            write(clubId, scores.subList(middle, scores.size()));
+        }
+    }
+
+    /**
+     * Scores dropped since startup because the database rejected them.
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    private synchronized void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to write buffered scores, {} will be retried", pending.size() + batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private record PendingScore(String clubId, HoleScore score) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.sharding.ClubShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves COMPLETED and CANCELLED tournaments that ended more than the
+ * retention period ago, with their registrations and hole scores, into
+ * the year-partitioned archive tables, so the hot tables only hold recent
+ * and upcoming tournaments.
+ * <p>
+ * Runs on every shard in batches, one transaction per batch. Rows are
+ * claimed with {@code FOR UPDATE SKIP LOCKED}, so several instances can run
+ * the job at once without archiving a tournament twice.
+ */
+@Component
+public class TournamentArchiver {
+    private static final Logger log = LoggerFactory.getLogger(TournamentArchiver.class);
+    private static final List<String> ARCHIVE_TABLES =
+            List.of("tournaments_archive", "tournament_members_archive", "hole_scores_archive");
+
+    private final ClubShardRouter router;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public TournamentArchiver(ClubShardRouter router, ApplicationEventPublisher eventPublisher,
+                              @Value("${golfclub.archive.enabled:true}") boolean enabled,
+                              @Value("${golfclub.archive.retention-days:365}") int retentionDays,
+                              @Value("${golfclub.archive.batch-size:500}") int batchSize) {
+        this.router = router;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${golfclub.archive.cron:0 30 3 * * *}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archiveAll();
+        }
+    }
+
+    /**
+     * @return tournaments archived per shard
+     */
+    public Map<String, Integer> archiveAll() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        Map<String, Integer> archived = new LinkedHashMap<>();
+        for (String shard : router.shardNames()) {
+            try {
+                archived.put(shard, archiveShard(shard, cutoff));
+            } catch (RuntimeException e) {
+                log.error("Archiving failed on shard {}", shard, e);
+            }
+        }
+        return archived;
+    }
+
+    private int archiveShard(String shard, LocalDate cutoff) {
+        JdbcTemplate jdbc = new JdbcTemplate(router.dataSource(shard));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(router.dataSource(shard)));
+        ensurePartitions(jdbc, LocalDate.now().getYear() + 1);
+
+        int total = 0;
+        while (true) {
+            Integer archived = transaction.execute(status -> archiveBatch(jdbc, cutoff));
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} tournaments on shard {} that ended before {}", total, shard, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(JdbcTemplate jdbc, LocalDate cutoff) {
+        // Clubs in the middle of a shard move are left for the next run
+        List<String> moving = List.copyOf(router.movingClubs());
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(cutoff));
+        args.addAll(moving);
+        args.add(batchSize);
+        List<Map<String, Object>> claimed = jdbc.queryForList(
+                "SELECT id, club_id FROM tournaments WHERE status IN ('COMPLETED', 'CANCELLED') AND end_date < ? " +
+                (moving.isEmpty() ? "" : "AND club_id NOT IN (" + placeholders(moving.size()) + ") ") +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED", args.toArray());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Object[] ids = claimed.stream().map(row -> row.get("id")).toArray();
+        String in = "(" + placeholders(ids.length) + ")";
+        Object[] withTime = prepend(Timestamp.valueOf(LocalDateTime.now()), ids);
+
+        jdbc.update("INSERT INTO tournaments_archive (id, archive_year, club_id, start_date, end_date, location, " +
+                "entry_fee, cash_prize_amount, status, minimum_participants, maximum_participants, participant_count, " +
+                "version, archived_at) SELECT id, YEAR(end_date), club_id, start_date, end_date, location, entry_fee, " +
+                "cash_prize_amount, status, minimum_participants, maximum_participants, participant_count, version, ? " +
+                "FROM tournaments WHERE id IN " + in, withTime);
+        jdbc.update("INSERT INTO tournament_members_archive (tournament_id, member_id, archive_year) " +
+                "SELECT tm.tournament_id, tm.member_id, YEAR(t.end_date) FROM tournament_members tm " +
+                "JOIN tournaments t ON t.id = tm.tournament_id WHERE tm.tournament_id IN " + in, ids);
+        jdbc.update("INSERT INTO hole_scores_archive (tournament_id, member_id, round_number, hole, strokes, " +
+                "recorded_at, archive_year) SELECT s.tournament_id, s.member_id, s.round_number, s.hole, s.strokes, " +
+                "s.recorded_at, YEAR(t.end_date) FROM hole_scores s JOIN tournaments t ON t.id = s.tournament_id " +
+                "WHERE s.tournament_id IN " + in, ids);
+
+        // Children first, although the foreign keys would cascade
+        jdbc.update("DELETE FROM hole_scores WHERE tournament_id IN " + in, ids);
+        jdbc.update("DELETE FROM tournament_members WHERE tournament_id IN " + in, ids);
+        jdbc.update("DELETE FROM tournament_waitlist WHERE tournament_id IN " + in, ids);
+        jdbc.update("DELETE FROM tournaments WHERE id IN " + in, ids);
+
+        // Published after commit so the calendar index and leaderboards drop them
+        for (Map<String, Object> row : claimed) {
+            eventPublisher.publishEvent(TournamentChangedEvent.deleted(
+                    (String) row.get("club_id"), ((Number) row.get("id")).longValue()));
+        }
+        return claimed.size();
+    }
+
+    /**
+     * Splits {@code pmax} so every year up to {@code lastYear} has its own
+     * partition. {@code pmax} is empty by then, so the split is cheap.
+     */
+    private static void ensurePartitions(JdbcTemplate jdbc, int lastYear) {
+        for (String table : ARCHIVE_TABLES) {
+            Integer highest = jdbc.queryForObject(
+                    "SELECT MAX(CAST(PARTITION_DESCRIPTION AS UNSIGNED)) FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_DESCRIPTION <> 'MAXVALUE'",
+                    Integer.class, table);
+            // PARTITION_DESCRIPTION is the exclusive upper bound, i.e. the last year + 1
+            for (int year = highest != null ? highest : lastYear; year <= lastYear; year++) {
+                jdbc.execute("ALTER TABLE " + table + " REORGANIZE PARTITION pmax INTO (" +
+                        "PARTITION p" + year + " VALUES LESS THAN (" + (year + 1) + "), " +
+                        "PARTITION pmax VALUES LESS THAN MAXVALUE)");
+            }
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] prepend(Object first, Object[] rest) {
+        Object[] values = new Object[rest.length + 1];
+        values[0] = first;
+        System.arraycopy(rest, 0, values, 1, rest.length);
+        return values;
+    }
+}
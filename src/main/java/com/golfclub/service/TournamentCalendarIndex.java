@@ -0,0 +1,210 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.sharding.ClubContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory calendar of tournament date ranges, one per club, so "what's
+ * on today / this week" never touches the database. A club's calendar is
+ * loaded on first use and kept in sync through {@link TournamentChangedEvent}s
+ * published after commit. Other instances don't publish to this one, so a
+ * reader that finds the calendar older than {@code golfclub.calendar.refresh-ms}
+ * reads it again from the database.
+ */
+@Component
+public class TournamentCalendarIndex {
+    private static final Comparator<TournamentCalendarEntry> BY_START = Comparator
+            .comparing(TournamentCalendarEntry::startDate)
+            .thenComparing(TournamentCalendarEntry::id);
+
+    private final TournamentRepo tournamentRepository;
+    private final long refreshNanos;
+    private final Map<String, ClubCalendar> calendars = new ConcurrentHashMap<>();
+
+    public TournamentCalendarIndex(TournamentRepo tournamentRepository,
+                                   @Value("${golfclub.calendar.refresh-ms:5000}") long refreshMs) {
+        this.tournamentRepository = tournamentRepository;
+        this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshMs);
+    }
+
+    /**
+     * Tournaments of the current club overlapping the range, by start date.
+     */
+    public List<TournamentCalendarEntry> findOverlapping(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        return calendar(ClubContext.current()).findOverlapping(from, to);
+    }
+
+    public List<TournamentCalendarEntry> findOn(LocalDate date) {
+        return findOverlapping(date, date);
+    }
+
+    public Optional<TournamentCalendarEntry> find(Long tournamentId) {
+        return Optional.ofNullable(calendar(ClubContext.current()).entries.get(tournamentId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        ClubCalendar calendar = calendars.get(event.clubId());
+        if (calendar != null) {
+            calendar.apply(event);
+        }
+    }
+
+    private Calendar calendar(String clubId) {
+        ClubCalendar calendar = calendars.computeIfAbsent(clubId, key -> new ClubCalendar());
+        Calendar current = calendar.current;
+        if (current == null) {
+            // Runs as the current club, which is the club being loaded
+            synchronized (calendar) {
+                if (calendar.current == null) {
+                    calendar.reload();
+                }
+            }
+        } else if (System.nanoTime() - current.loadedAt > refreshNanos && calendar.startReload()) {
+            calendar.reload();
+        }
+        return calendar.current;
+    }
+
+    /**
+     * One club's calendar. Readers use the current {@link Calendar}; changes
+     * and reloads replace it under the lock. Changes that arrive while a
+     * reload is reading the database are applied again on top of it.
+     */
+    private final class ClubCalendar {
+        private volatile Calendar current;
+        private List<TournamentChangedEvent> changesDuringReload;
+
+        synchronized boolean startReload() {
+            if (changesDuringReload != null) {
+                return false;
+            }
+            changesDuringReload = new ArrayList<>();
+            return true;
+        }
+
+        void reload() {
+            synchronized (this) {
+                if (changesDuringReload == null) {
+                    changesDuringReload = new ArrayList<>();
+                }
+            }
+            long loadedAt = System.nanoTime();
+            List<TournamentCalendarEntry> entries;
+            try {
+                entries = tournamentRepository.findCalendarEntries();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+                throw e;
+            }
+            Map<Long, TournamentCalendarEntry> byId = new HashMap<>();
+            entries.forEach(entry -> byId.put(entry.id(), entry));
+            synchronized (this) {
+                for (TournamentChangedEvent event : changesDuringReload) {
+                    applyChange(byId, event);
+                }
+                changesDuringReload = null;
+                current = new Calendar(byId, loadedAt);
+            }
+        }
+
+        synchronized void apply(TournamentChangedEvent event) {
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event);
+            }
+            if (current != null) {
+                Map<Long, TournamentCalendarEntry> byId = new HashMap<>(current.entries);
+                applyChange(byId, event);
+                current = new Calendar(byId, current.loadedAt);
+            }
+        }
+    }
+
+    private static void applyChange(Map<Long, TournamentCalendarEntry> byId, TournamentChangedEvent event) {
+        if (event.isDeleted()) {
+            byId.remove(event.tournamentId());
+        } else {
+            byId.put(event.tournamentId(), event.entry());
+        }
+    }
+
+    /**
+     * Entries sorted by start date, with {@code maxEnd[i]} the latest end
+     * day among the first {@code i + 1}, as in {@link MemberSchedule}: an
+     * overlap query is a binary search plus a walk over the matches, and
+     * its cost doesn't depend on how long the range or the tournaments are.
+     * Immutable.
+     */
+    private static final class Calendar {
+        private final Map<Long, TournamentCalendarEntry> entries;
+        private final TournamentCalendarEntry[] byStart;
+        private final long[] maxEnd;
+        private final long loadedAt;
+
+        Calendar(Map<Long, TournamentCalendarEntry> entries, long loadedAt) {
+            this.entries = Map.copyOf(entries);
+            this.byStart = sorted(entries.values());
+            this.maxEnd = new long[byStart.length];
+            for (int i = 0; i < byStart.length; i++) {
+                long end = byStart[i].endDate().toEpochDay();
+                maxEnd[i] = i == 0 ? end : Math.max(maxEnd[i - 1], end);
+            }
+            this.loadedAt = loadedAt;
+        }
+
+        List<TournamentCalendarEntry> findOverlapping(LocalDate from, LocalDate to) {
+            long fromDay = from.toEpochDay();
+            List<TournamentCalendarEntry> result = new ArrayList<>();
+            for (int i = lastStartingBy(to.toEpochDay()); i >= 0 && maxEnd[i] >= fromDay; i--) {
+                if (byStart[i].endDate().toEpochDay() >= fromDay) {
+                    result.add(byStart[i]);
+                }
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        // Index of the last entry starting on or before the day, or -1
+        private int lastStartingBy(long day) {
+            int low = 0;
+            int high = byStart.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (byStart[mid].startDate().toEpochDay() <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        private static TournamentCalendarEntry[] sorted(Collection<TournamentCalendarEntry> entries) {
+            TournamentCalendarEntry[] sorted = entries.toArray(new TournamentCalendarEntry[0]);
+            Arrays.sort(sorted, BY_START);
+            return sorted;
+        }
+    }
+}
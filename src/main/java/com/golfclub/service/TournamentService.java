@@ -1,37 +1,95 @@
 package com.golfclub.service;
 
+import com.golfclub.coalescing.ReadCoalescer;
+import com.golfclub.event.RegistrationChangedEvent;
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.event.WaitlistPromotionEvent;
+import com.golfclub.model.ArchivedTournament;
+import com.golfclub.model.LeaderboardEntry;
 import com.golfclub.model.Member;
+import com.golfclub.model.Money;
 import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.model.WaitlistEntry;
+import com.golfclub.repository.ArchivedTournamentRepo;
 import com.golfclub.repository.MemberRepo;
 import com.golfclub.repository.TournamentRepo;
+import com.golfclub.repository.WaitlistRepo;
+import com.golfclub.sharding.ClubContext;
+import com.golfclub.sharding.ShardQueryExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class TournamentService {
     private final TournamentRepo tournamentRepository;
     private final MemberRepo memberRepository;
+    private final WaitlistRepo waitlistRepository;
+    private final TournamentCalendarIndex calendarIndex;
+    private final LiveScoreService liveScoreService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardQueryExecutor shardQueries;
+    private final ArchivedTournamentRepo archivedTournamentRepository;
+    private final MemberScheduleIndex scheduleIndex;
+    private final ReadCoalescer reads;
+    private final TransactionTemplate readOnly;
 
     @Autowired
-    public TournamentService(TournamentRepo tournamentRepository, MemberRepo memberRepository) {
+    public TournamentService(TournamentRepo tournamentRepository, MemberRepo memberRepository,
+                             WaitlistRepo waitlistRepository, TournamentCalendarIndex calendarIndex,
+                             LiveScoreService liveScoreService, ApplicationEventPublisher eventPublisher,
+                             ShardQueryExecutor shardQueries, ArchivedTournamentRepo archivedTournamentRepository,
+                             MemberScheduleIndex scheduleIndex, ReadCoalescer reads,
+                             PlatformTransactionManager transactionManager) {
         this.tournamentRepository = tournamentRepository;
         this.memberRepository = memberRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.calendarIndex = calendarIndex;
+        this.liveScoreService = liveScoreService;
+        this.eventPublisher = eventPublisher;
+        this.shardQueries = shardQueries;
+        this.archivedTournamentRepository = archivedTournamentRepository;
+        this.scheduleIndex = scheduleIndex;
+        this.reads = reads;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
     }
 
     public Tournament saveTournament(Tournament tournament) {
         validateTournament(tournament);
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(TournamentChangedEvent.updated(saved));
+        return saved;
     }
 
     private void validateTournament(Tournament tournament) {
         if (tournament.getEndDate().isBefore(tournament.getStartDate())) {
             throw new IllegalArgumentException("End date cannot be before start date");
         }
+        if (!tournament.getEntryFee().isPositive()) {
+            throw new IllegalArgumentException("Entry fee must be positive");
+        }
+        if (tournament.getCashPrizeAmount().isNegative()) {
+            throw new IllegalArgumentException("Cash prize must be zero or positive");
+        }
         if (tournament.getMinimumParticipants() > tournament.getMaximumParticipants()) {
             throw new IllegalArgumentException("Minimum participants cannot be greater than maximum");
         }
@@ -40,18 +98,86 @@ public class TournamentService {
         }
     }
 
-    @Transactional(readOnly = true)
+    // Coalesced reads don't open a transaction of their own; see ReadCoalescer
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<Tournament> getTournamentById(Long id) {
-        return tournamentRepository.findById(id);
+        return reads.execute("tournament-by-id", id,
+                () -> tournamentRepository.findAllWithMembersByIdIn(List.of(id)).stream().findFirst());
     }
 
+    /**
+     * Falls back to the archive for tournaments the archiver has moved
+     * out, but only when the caller asks for history. The archive lookup
+     * gets its own short transaction after the coalesced read.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Tournament> getTournamentById(Long id, boolean includeHistory) {
+        Optional<Tournament> live = getTournamentById(id);
+        if (live.isPresent() || !includeHistory) {
+            return live;
+        }
+        return readOnly.execute(status -> archivedTournamentRepository.findWithParticipants(id)
+                .map(archived -> fromArchive(List.of(archived)).get(0)));
+    }
+
+    /**
+     * Completed tournaments that ended in the range, newest first. The
+     * archive is only queried when {@code includeHistory} is set.
+     */
     @Transactional(readOnly = true)
+    public List<Tournament> findCompletedTournaments(LocalDate from, LocalDate to, boolean includeHistory) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        List<Tournament> completed = new ArrayList<>(tournamentRepository.findCompletedEndingBetween(from, to));
+        if (includeHistory) {
+            completed.addAll(fromArchive(archivedTournamentRepository.findCompletedBetween(
+                    from, to, from.getYear(), to.getYear())));
+            completed.sort(Comparator.comparing(Tournament::getEndDate).reversed());
+        }
+        return completed;
+    }
+
+    // Loads the participants of all the archived tournaments in one query
+    private List<Tournament> fromArchive(List<ArchivedTournament> archived) {
+        Set<Long> memberIds = archived.stream()
+                .flatMap(a -> a.getParticipantIds().stream())
+                .collect(Collectors.toSet());
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return archived.stream()
+                .map(a -> a.toTournament(a.getParticipantIds().stream()
+                        .map(members::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(HashSet::new))))
+                .toList();
+    }
+
+    /**
+     * Tournaments with the given ids in request order; unknown ids are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<Tournament> getTournamentsByIds(Collection<Long> ids) {
+        if (ids.size() > MemberService.MAX_IDS_PER_LOOKUP) {
+            throw new IllegalArgumentException("At most " + MemberService.MAX_IDS_PER_LOOKUP + " ids per lookup");
+        }
+        List<Long> wanted = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Tournament> found = tournamentRepository.findAllWithMembersByIdIn(wanted).stream()
+                .collect(Collectors.toMap(Tournament::getId, Function.identity()));
+        return wanted.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> getAllTournaments() {
-        return tournamentRepository.findAllWithMembers();
+        return reads.execute("all-tournaments", null, tournamentRepository::findAllWithMembers);
     }
 
     public void deleteTournament(Long id) {
         tournamentRepository.deleteById(id);
+        eventPublisher.publishEvent(TournamentChangedEvent.deleted(ClubContext.current(), id));
     }
 
     public Tournament updateTournament(Long id, Tournament tournamentDetails) {
@@ -65,7 +191,11 @@ public class TournamentService {
                     existing.setCashPrizeAmount(tournamentDetails.getCashPrizeAmount());
                     existing.setMinimumParticipants(tournamentDetails.getMinimumParticipants());
                     existing.setMaximumParticipants(tournamentDetails.getMaximumParticipants());
-                    return tournamentRepository.save(existing);
+                    promoteFromWaitlist(existing);
+                    Tournament saved = tournamentRepository.save(existing);
+                    copyDatesToRegistrations(saved);
+                    eventPublisher.publishEvent(TournamentChangedEvent.updated(saved));
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
     }
@@ -73,12 +203,17 @@ public class TournamentService {
     public Tournament addMemberToTournament(Long tournamentId, Long memberId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByIdForRegistration(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
 
         validateMemberRegistration(tournament, member);
         tournament.addMember(member);
-        return tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(RegistrationChangedEvent.added(tournament.getClubId(), tournamentId, memberId));
+        waitlistRepository.findByTournamentIdAndMemberId(tournamentId, memberId)
+                .ifPresent(waitlistRepository::delete);
+        Tournament saved = tournamentRepository.save(tournament);
+        copyDatesToRegistrations(saved);
+        return saved;
     }
 
     private void validateMemberRegistration(Tournament tournament, Member member) {
@@ -94,12 +229,29 @@ public class TournamentService {
         if (tournament.isMemberRegistered(member)) {
             throw new IllegalStateException("Member is already registered");
         }
+        checkScheduleConflict(tournament, member);
+    }
+
+    private void checkScheduleConflict(Tournament tournament, Member member) {
+        scheduleIndex.findConflict(member, tournament).ifPresent(conflict -> {
+            throw new IllegalStateException("Member is already playing in tournament " + conflict.id() +
+                    " from " + conflict.startDate() + " to " + conflict.endDate());
+        });
+    }
+
+    /**
+     * Copies the tournament's dates onto its registration rows, which is
+     * where {@link MemberScheduleIndex} reads them from.
+     */
+    private void copyDatesToRegistrations(Tournament tournament) {
+        tournamentRepository.flush();
+        tournamentRepository.copyDatesToRegistrations(tournament.getId(), tournament.getStartDate(), tournament.getEndDate());
     }
 
     public Tournament removeMemberFromTournament(Long tournamentId, Long memberId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByIdForRegistration(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
 
         if (!tournament.isMemberRegistered(member)) {
@@ -107,7 +259,90 @@ public class TournamentService {
         }
 
         tournament.removeMember(member);
-        return tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(RegistrationChangedEvent.removed(tournament.getClubId(), tournamentId, memberId));
+        promoteFromWaitlist(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        copyDatesToRegistrations(saved);
+        return saved;
+    }
+
+    /**
+     * Puts a member on the tournament's waitlist. If a seat is free the
+     * member is registered straight away and no entry is returned.
+     */
+    public Optional<WaitlistEntry> joinWaitlist(Long tournamentId, Long memberId, Integer priority) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+        Member member = memberRepository.findByIdForRegistration(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (member.getStatus() != Member.MembershipStatus.ACTIVE) {
+            throw new IllegalStateException("Member is not active");
+        }
+        if (tournament.getStatus() != Tournament.TournamentStatus.SCHEDULED) {
+            throw new IllegalStateException("Tournament is not open for registration");
+        }
+        if (tournament.isMemberRegistered(member)) {
+            throw new IllegalStateException("Member is already registered");
+        }
+        if (waitlistRepository.existsByTournamentIdAndMemberId(tournamentId, memberId)) {
+            throw new IllegalStateException("Member is already on the waitlist");
+        }
+        checkScheduleConflict(tournament, member);
+
+        WaitlistEntry entry = waitlistRepository.save(new WaitlistEntry(tournamentId, memberId, priority));
+        promoteFromWaitlist(tournament);
+        tournamentRepository.save(tournament);
+        copyDatesToRegistrations(tournament);
+        return tournament.isMemberRegistered(member) ? Optional.empty() : Optional.of(entry);
+    }
+
+    public void leaveWaitlist(Long tournamentId, Long memberId) {
+        requireClubTournament(tournamentId);
+        WaitlistEntry entry = waitlistRepository.findByTournamentIdAndMemberId(tournamentId, memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member is not on the waitlist"));
+        waitlistRepository.delete(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getWaitlist(Long tournamentId) {
+        requireClubTournament(tournamentId);
+        return waitlistRepository.findByTournamentIdOrderByPriorityDescIdAsc(tournamentId);
+    }
+
+    // Waitlist entries carry no club, so access goes through the club-filtered tournament
+    private void requireClubTournament(Long tournamentId) {
+        if (tournamentRepository.findById(tournamentId).isEmpty()) {
+            throw new IllegalArgumentException("Tournament not found");
+        }
+    }
+
+    /**
+     * Fills free seats from the head of the waitlist inside the caller's
+     * transaction. The tournament's version column makes concurrent
+     * releases and promotions fail with an optimistic lock error rather
+     * than over-filling the tournament. Members who have since registered
+     * for an overlapping tournament are dropped from the waitlist.
+     */
+    private void promoteFromWaitlist(Tournament tournament) {
+        if (tournament.getStatus() != Tournament.TournamentStatus.SCHEDULED) {
+            return;
+        }
+        for (WaitlistEntry entry : waitlistRepository.findByTournamentIdOrderByPriorityDescIdAsc(tournament.getId())) {
+            if (tournament.getParticipatingMembers().size() >= tournament.getMaximumParticipants()) {
+                return;
+            }
+            waitlistRepository.delete(entry);
+            Optional<Member> member = memberRepository.findByIdForRegistration(entry.getMemberId());
+            if (member.isEmpty() || !member.get().isActive() || tournament.isMemberRegistered(member.get())
+                    || scheduleIndex.findConflict(member.get(), tournament).isPresent()) {
+                continue;
+            }
+            tournament.addMember(member.get());
+            eventPublisher.publishEvent(RegistrationChangedEvent.added(tournament.getClubId(), tournament.getId(),
+                    entry.getMemberId()));
+            eventPublisher.publishEvent(new WaitlistPromotionEvent(tournament.getId(), entry.getMemberId()));
+        }
     }
 
     @Transactional(readOnly = true)
@@ -115,14 +350,22 @@ public class TournamentService {
         return tournamentRepository.findByLocationContainingIgnoreCase(location);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Tournaments starting in the range, found through the calendar index.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> findByDateRange(LocalDate startDate, LocalDate endDate) {
-        return tournamentRepository.findByStartDateBetween(startDate, endDate);
+        if (endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        return loadCalendarEntries("tournaments-by-date-range", calendarIndex.findOverlapping(startDate, endDate).stream()
+                .filter(entry -> !entry.startDate().isBefore(startDate))
+                .toList());
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> findByStatus(Tournament.TournamentStatus status) {
-        return tournamentRepository.findByStatus(status);
+        return reads.execute("tournaments-by-status", status, () -> tournamentRepository.findByStatus(status));
     }
 
     public void updateTournamentStatus(Long tournamentId, Tournament.TournamentStatus status) {
@@ -131,9 +374,10 @@ public class TournamentService {
                     validateStatusTransition(tournament, status);
                     tournament.setStatus(status);
                     if (status == Tournament.TournamentStatus.COMPLETED) {
-                        updateMemberStats(tournament);
+                        updateMemberStats(tournament, liveScoreService.finalStandings(tournamentId));
                     }
                     tournamentRepository.save(tournament);
+                    eventPublisher.publishEvent(TournamentChangedEvent.updated(tournament));
                 });
     }
 
@@ -147,42 +391,84 @@ public class TournamentService {
         }
     }
 
-    private void updateMemberStats(Tournament tournament) {
+    private void updateMemberStats(Tournament tournament, List<LeaderboardEntry> standings) {
+        // Ties for first share the prize; shares add up to the prize to the cent
+        List<Long> winnerIds = standings.stream()
+                .filter(entry -> entry.position() == 1 && entry.holesPlayed() > 0)
+                .map(LeaderboardEntry::memberId)
+                .sorted()
+                .toList();
+        long[] shares = new long[winnerIds.size()];
+        if (shares.length > 0) {
+            Money.allocate(tournament.getCashPrizeAmount().cents(), shares);
+        }
         for (Member member : tournament.getParticipatingMembers()) {
             member.incrementTournamentsPlayed();
+            int winner = winnerIds.indexOf(member.getId());
+            if (winner >= 0) {
+                member.addWinningsCents(shares[winner]);
+            }
             memberRepository.save(member);
         }
     }
 
     @Transactional(readOnly = true)
-    public Double calculateTotalRevenue() {
-        return tournamentRepository.calculateTotalRevenue();
+    public Money calculateTotalRevenue() {
+        return Money.of(tournamentRepository.calculateTotalRevenue());
+    }
+
+    // Revenue of every club, summed over all shards
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Money calculateGlobalRevenue() {
+        return shardQueries.onEveryShard(tournamentRepository::calculateShardRevenue).stream()
+                .map(Money::of)
+                .reduce(Money.ZERO, Money::plus);
     }
 
     @Transactional(readOnly = true)
-    public Double calculateTournamentRevenue(Long tournamentId) {
+    public Money calculateTournamentRevenue(Long tournamentId) {
         return tournamentRepository.findById(tournamentId)
                 .map(Tournament::calculateTotalRevenue)
-                .orElse(0.0);
+                .orElse(Money.ZERO);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> findCurrentTournaments() {
-        return tournamentRepository.findCurrentTournaments(LocalDate.now());
+        return loadCalendarEntries("current-tournaments", calendarIndex.findOn(LocalDate.now()));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> findAvailableTournaments() {
-        return tournamentRepository.findAvailableTournaments();
+        return reads.execute("available-tournaments", null, tournamentRepository::findAvailableTournaments);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Tournament> findUpcomingTournaments() {
-        return tournamentRepository.findUpcomingTournaments(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        return reads.execute("upcoming-tournaments", today, () -> tournamentRepository.findUpcomingTournaments(today));
     }
 
     @Transactional(readOnly = true)
     public List<Tournament> findRecentlyCompletedTournaments() {
         return tournamentRepository.findRecentlyCompletedTournaments();
     }
+
+    // Served from memory; only a club's first calendar read loads it
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TournamentCalendarEntry> getCalendar(LocalDate from, LocalDate to) {
+        return calendarIndex.findOverlapping(from, to);
+    }
+
+    // The calendar picks the tournaments, so the database only sees a primary-key lookup
+    private List<Tournament> loadCalendarEntries(String method, List<TournamentCalendarEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = entries.stream().map(TournamentCalendarEntry::id).toList();
+        return reads.execute(method, ids, () -> {
+            Map<Long, Tournament> byId = tournamentRepository.findAllWithMembersByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Tournament::getId, Function.identity()));
+            return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.golfclub.service;
+
+import com.golfclub.event.WaitlistPromotionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tells members they have been promoted off a waitlist, once the
+ * registration has committed. Currently the notification is a log entry.
+ */
+@Component
+public class WaitlistNotifier {
+    private static final Logger log = LoggerFactory.getLogger(WaitlistNotifier.class);
+
+    @TransactionalEventListener
+    public void onPromotion(WaitlistPromotionEvent event) {
+        log.info("Member {} promoted from the waitlist into tournament {}", event.memberId(), event.tournamentId());
+    }
+}
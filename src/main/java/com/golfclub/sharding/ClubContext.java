@@ -0,0 +1,70 @@
+package com.golfclub.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * The club the current thread is working for, and optionally a shard that
+ * overrides the club's own shard (used by scatter-gather queries and
+ * rebalancing). Set per request by {@link ClubContextFilter}.
+ */
+public final class ClubContext {
+    public static final String DEFAULT_CLUB = "default";
+
+    private static final ThreadLocal<String> CLUB = new ThreadLocal<>();
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    private ClubContext() {
+    }
+
+    public static String current() {
+        String club = CLUB.get();
+        return club != null ? club : DEFAULT_CLUB;
+    }
+
+    static String currentShardOverride() {
+        return SHARD.get();
+    }
+
+    public static void set(String clubId) {
+        CLUB.set(clubId);
+    }
+
+    public static void clear() {
+        CLUB.remove();
+    }
+
+    public static <T> T callAs(String clubId, Supplier<T> action) {
+        String previous = CLUB.get();
+        CLUB.set(clubId);
+        try {
+            return action.get();
+        } finally {
+            restore(CLUB, previous);
+        }
+    }
+
+    public static void runAs(String clubId, Runnable action) {
+        callAs(clubId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T callOnShard(String shard, Supplier<T> action) {
+        String previous = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            restore(SHARD, previous);
+        }
+    }
+
+    private static void restore(ThreadLocal<String> holder, String previous) {
+        if (previous == null) {
+            holder.remove();
+        } else {
+            holder.set(previous);
+        }
+    }
+}
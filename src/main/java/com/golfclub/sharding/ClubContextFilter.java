@@ -0,0 +1,62 @@
+package com.golfclub.sharding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Binds the club named in the {@code X-Club-Id} header to the request
+ * thread. Requests without the header work on the default club. Writes
+ * pass the club's write gate, so a club that is being moved between
+ * shards turns them away and the move can wait for those already running.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ClubContextFilter extends OncePerRequestFilter {
+    public static final String CLUB_HEADER = "X-Club-Id";
+    private static final Pattern CLUB_ID = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+
+    private final ClubShardRouter router;
+
+    public ClubContextFilter(ClubShardRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clubId = request.getHeader(CLUB_HEADER);
+        if (clubId == null) {
+            clubId = ClubContext.DEFAULT_CLUB;
+        } else if (!CLUB_ID.matcher(clubId).matches()) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + CLUB_HEADER);
+            return;
+        }
+        boolean write = !HttpMethod.GET.matches(request.getMethod());
+        if (write && !router.tryEnterWrite(clubId)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Club is being moved to another shard");
+            return;
+        }
+
+        ClubContext.set(clubId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ClubContext.clear();
+            if (write) {
+                router.exitWrite(clubId);
+            }
+        }
+    }
+}
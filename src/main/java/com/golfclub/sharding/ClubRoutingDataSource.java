@@ -0,0 +1,26 @@
+package com.golfclub.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import java.util.HashMap;
+
+/**
+ * Hands out connections from the current club's shard, or from the shard
+ * named by {@link ClubContext#callOnShard} when one is set.
+ */
+public class ClubRoutingDataSource extends AbstractRoutingDataSource {
+    private final ClubShardRouter router;
+
+    public ClubRoutingDataSource(ClubShardRouter router) {
+        this.router = router;
+        setTargetDataSources(new HashMap<>(router.dataSources()));
+        setDefaultTargetDataSource(router.dataSource(router.defaultShard()));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ClubContext.currentShardOverride();
+        return shard != null ? shard : router.shardFor(ClubContext.current());
+    }
+}
@@ -0,0 +1,297 @@
+package com.golfclub.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Knows every shard's DataSource and which shard each club lives on.
+ * Assignments start from configuration and are overridden by the
+ * club_shards table on the default shard, the directory every instance
+ * reads. The directory also records clubs being moved; it is re-read
+ * every {@code golfclub.sharding.directory-refresh-ms}, and an instance
+ * that cannot re-read it for {@link #settleMillis} refuses writes, since
+ * it can no longer tell whether a move has started.
+ * <p>
+ * Writes enter a per-club gate, so a move can close the gate and wait
+ * for the writes already running on this instance.
+ */
+public class ClubShardRouter {
+    private static final Logger log = LoggerFactory.getLogger(ClubShardRouter.class);
+
+    private final String defaultShard;
+    private final Map<String, DataSource> shards;
+    private final Map<String, Long> idOffsets;
+    private final Map<String, String> configuredAssignments;
+    private final long settleNanos;
+    private final Map<String, WriteGate> writeGates = new ConcurrentHashMap<>();
+    private volatile Directory directory;
+
+    public ClubShardRouter(String defaultShard, Map<String, DataSource> shards, Map<String, Long> idOffsets,
+                           Map<String, String> initialAssignments, long directoryRefreshMs) {
+        if (!shards.containsKey(defaultShard)) {
+            throw new IllegalArgumentException("Default shard " + defaultShard + " is not configured");
+        }
+        if (directoryRefreshMs <= 0) {
+            throw new IllegalArgumentException("Directory refresh interval must be positive");
+        }
+        this.defaultShard = defaultShard;
+        this.shards = Collections.unmodifiableMap(shards);
+        this.idOffsets = idOffsets;
+        initialAssignments.values().forEach(this::checkShard);
+        this.configuredAssignments = Map.copyOf(initialAssignments);
+        this.settleNanos = TimeUnit.MILLISECONDS.toNanos(3 * directoryRefreshMs);
+    }
+
+    public String defaultShard() {
+        return defaultShard;
+    }
+
+    public Set<String> shardNames() {
+        return shards.keySet();
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return shards;
+    }
+
+    public DataSource dataSource(String shard) {
+        checkShard(shard);
+        return shards.get(shard);
+    }
+
+    public long idOffset(String shard) {
+        return idOffsets.getOrDefault(shard, 0L);
+    }
+
+    public String shardFor(String clubId) {
+        return directory().assignments().getOrDefault(clubId, defaultShard);
+    }
+
+    public Map<String, String> assignments() {
+        return directory().assignments();
+    }
+
+    /**
+     * Clubs being moved between shards reject writes until the move ends.
+     */
+    public boolean isMoving(String clubId) {
+        return directory().moves().containsKey(clubId);
+    }
+
+    public Set<String> movingClubs() {
+        return directory().moves().keySet();
+    }
+
+    /**
+     * Lets a write for the club start, unless the club is moving or the
+     * directory is too old to tell. Every successful call must be paired
+     * with {@link #exitWrite}.
+     */
+    public boolean tryEnterWrite(String clubId) {
+        Directory current = directory();
+        if (System.nanoTime() - current.loadedAt() > settleNanos || current.moves().containsKey(clubId)) {
+            return false;
+        }
+        boolean[] entered = new boolean[1];
+        writeGates.compute(clubId, (key, gate) -> {
+            WriteGate result = gate != null ? gate : new WriteGate();
+            entered[0] = result.enter();
+            return result;
+        });
+        return entered[0];
+    }
+
+    public void exitWrite(String clubId) {
+        writeGates.computeIfPresent(clubId, (key, gate) -> {
+            gate.exit();
+            return gate.isIdle() ? null : gate;
+        });
+    }
+
+    /**
+     * How long until every instance has either seen a directory change or
+     * stopped taking writes.
+     */
+    public long settleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(settleNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${golfclub.sharding.directory-refresh-ms:1000}")
+    public void refresh() {
+        try {
+            loadDirectory();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the club shard directory", e);
+        }
+    }
+
+    // Read on first use rather than at startup, so the context can start before the schema exists
+    private Directory directory() {
+        Directory current = directory;
+        if (current == null) {
+            synchronized (this) {
+                current = directory != null ? directory : loadDirectory();
+            }
+        }
+        return current;
+    }
+
+    private synchronized Directory loadDirectory() {
+        Map<String, String> assignments = new HashMap<>(configuredAssignments);
+        Map<String, String> moves = new HashMap<>();
+        directoryJdbc().query("SELECT club_id, shard_name, moving_to FROM club_shards", rs -> {
+            String shard = rs.getString(2);
+            if (shards.containsKey(shard)) {
+                assignments.put(rs.getString(1), shard);
+            } else {
+                log.warn("Club {} is assigned to unknown shard {}", rs.getString(1), shard);
+            }
+            if (rs.getString(3) != null) {
+                moves.put(rs.getString(1), rs.getString(3));
+            }
+        });
+        Directory loaded = new Directory(Map.copyOf(assignments), Map.copyOf(moves), System.nanoTime());
+        directory = loaded;
+        return loaded;
+    }
+
+    /**
+     * Marks the club as moving in the directory and closes its write gate
+     * here. Fails if a move of the club is already under way anywhere.
+     */
+    boolean startMove(String clubId, String targetShard) {
+        checkShard(targetShard);
+        Timestamp now = Timestamp.from(Instant.now());
+        JdbcTemplate jdbc = directoryJdbc();
+        jdbc.update("INSERT IGNORE INTO club_shards (club_id, shard_name, updated_at) VALUES (?, ?, ?)",
+                clubId, shardFor(clubId), now);
+        if (jdbc.update("UPDATE club_shards SET moving_to = ?, updated_at = ? WHERE club_id = ? AND moving_to IS NULL",
+                targetShard, now, clubId) == 0) {
+            return false;
+        }
+        writeGates.compute(clubId, (key, gate) -> {
+            WriteGate result = gate != null ? gate : new WriteGate();
+            result.close();
+            return result;
+        });
+        loadDirectory();
+        return true;
+    }
+
+    /**
+     * Waits for the writes this instance let in before the move started.
+     */
+    boolean awaitWritesDrained(String clubId, long timeoutMs) {
+        WriteGate gate = writeGates.get(clubId);
+        return gate == null || gate.awaitDrained(timeoutMs);
+    }
+
+    /**
+     * Points the club at its new shard and ends the move in one update.
+     */
+    void finishMove(String clubId, String targetShard) {
+        directoryJdbc().update("UPDATE club_shards SET shard_name = ?, moving_to = NULL, updated_at = ? WHERE club_id = ?",
+                targetShard, Timestamp.from(Instant.now()), clubId);
+        reopen(clubId);
+    }
+
+    void abortMove(String clubId) {
+        directoryJdbc().update("UPDATE club_shards SET moving_to = NULL, updated_at = ? WHERE club_id = ?",
+                Timestamp.from(Instant.now()), clubId);
+        reopen(clubId);
+    }
+
+    private void reopen(String clubId) {
+        loadDirectory();
+        writeGates.computeIfPresent(clubId, (key, gate) -> {
+            gate.open();
+            return gate.isIdle() ? null : gate;
+        });
+    }
+
+    private JdbcTemplate directoryJdbc() {
+        return new JdbcTemplate(shards.get(defaultShard));
+    }
+
+    @PreDestroy
+    void closeShards() throws Exception {
+        for (DataSource dataSource : shards.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void checkShard(String shard) {
+        if (!shards.containsKey(shard)) {
+            throw new IllegalArgumentException("Unknown shard " + shard);
+        }
+    }
+
+    private record Directory(Map<String, String> assignments, Map<String, String> moves, long loadedAt) {
+    }
+
+    /**
+     * Writes in flight for one club on this instance. Gates are dropped
+     * from the map once open and idle.
+     */
+    private static final class WriteGate {
+        private int inFlight;
+        private boolean closed;
+
+        synchronized boolean enter() {
+            if (closed) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        synchronized void exit() {
+            if (--inFlight == 0) {
+                notifyAll();
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        synchronized void open() {
+            closed = false;
+        }
+
+        synchronized boolean isIdle() {
+            return inFlight == 0 && !closed;
+        }
+
+        synchronized boolean awaitDrained(long timeoutMs) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            try {
+                while (inFlight > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
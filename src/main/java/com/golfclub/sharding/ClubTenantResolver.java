@@ -0,0 +1,20 @@
+package com.golfclub.sharding;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Feeds the current club to Hibernate, which fills and filters on the
+ * {@code @TenantId} club column of members and tournaments.
+ */
+public class ClubTenantResolver implements CurrentTenantIdentifierResolver {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return ClubContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfclub.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Scatter-gather for the few queries that span clubs. The query runs once
+ * per shard, in parallel, each in its own read-only transaction on a
+ * worker thread so it never reuses the caller's connection.
+ */
+@Component
+public class ShardQueryExecutor {
+    private final ClubShardRouter router;
+    private final TransactionTemplate readOnly;
+    private final ExecutorService executor;
+
+    public ShardQueryExecutor(ClubShardRouter router, PlatformTransactionManager transactionManager) {
+        this.router = router;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "shard-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return one result per shard
+     */
+    public <T> List<T> onEveryShard(Supplier<T> query) {
+        List<Future<T>> futures = new ArrayList<>();
+        for (String shard : router.shardNames()) {
+            futures.add(executor.submit(() -> ClubContext.callOnShard(shard, () -> readOnly.execute(status -> query.get()))));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shard query was interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
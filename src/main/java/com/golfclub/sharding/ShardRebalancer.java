@@ -0,0 +1,222 @@
+package com.golfclub.sharding;
+
+import com.golfclub.service.ScoreWriteBehind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves a club's rows from its current shard to another one.
+ * <p>
+ * The move is recorded in the shard directory, which every instance
+ * reads, so writes for the club are refused everywhere while it moves.
+ * Before copying, the move waits for this instance's writes to drain and
+ * long enough for the other instances to notice and finish theirs. Rows
+ * are copied to the target in one transaction and the club is switched
+ * to the target; the source rows are only deleted once every instance
+ * routes the club to the target. Ids are kept as they are; the per-shard
+ * id offsets keep them from clashing.
+ * <p>
+ * Inserting an explicit id raises the target's AUTO_INCREMENT past it, and
+ * MySQL won't lower it again while the row exists. A club with ids at or
+ * above the start of the next shard's range (rows created on a shard with
+ * a higher offset) therefore can't move to the target: the target would
+ * go on to generate ids in that other shard's range. Such moves are refused.
+ * <p>
+ * If the instance running a move dies midway, the club keeps refusing
+ * writes until {@code club_shards.moving_to} is cleared by hand.
+ */
+@Component
+public class ShardRebalancer {
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+    private static final int BATCH_SIZE = 500;
+
+    // Parents before children; deleted in reverse
+    private static final List<String> CLUB_TABLES = List.of("members", "tournaments", "tournaments_archive");
+    private static final List<String> TOURNAMENT_TABLES = List.of("tournament_members", "tournament_waitlist", "hole_scores");
+    private static final List<String> ARCHIVED_TOURNAMENT_TABLES = List.of("tournament_members_archive", "hole_scores_archive");
+
+    private final ClubShardRouter router;
+    private final ScoreWriteBehind scoreWriteBehind;
+    private final long moveDrainMs;
+
+    public ShardRebalancer(ClubShardRouter router, ScoreWriteBehind scoreWriteBehind, ShardingProperties sharding) {
+        this.router = router;
+        this.scoreWriteBehind = scoreWriteBehind;
+        this.moveDrainMs = sharding.getMoveDrainMs();
+    }
+
+    /**
+     * @return rows copied per table
+     */
+    public Map<String, Integer> moveClub(String clubId, String targetShard) {
+        String sourceShard = router.shardFor(clubId);
+        DataSource target = router.dataSource(targetShard);
+        if (sourceShard.equals(targetShard)) {
+            throw new IllegalArgumentException("Club " + clubId + " is already on shard " + targetShard);
+        }
+        if (!router.startMove(clubId, targetShard)) {
+            throw new IllegalStateException("Club " + clubId + " is already being moved");
+        }
+        boolean switched = false;
+        try {
+            if (!router.awaitWritesDrained(clubId, moveDrainMs)) {
+                throw new IllegalStateException("Writes for club " + clubId + " did not finish in time");
+            }
+            // Other instances see the move within the settle time; writes they had started finish within the drain time
+            pause(router.settleMillis() + moveDrainMs);
+            // Scores still buffered for the club must reach the source before copying
+            scoreWriteBehind.flush();
+
+            DataSource source = router.dataSource(sourceShard);
+            JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+            List<Long> tournamentIds = sourceJdbc.queryForList(
+                    "SELECT id FROM tournaments WHERE club_id = ?", Long.class, clubId);
+            List<Long> archivedIds = sourceJdbc.queryForList(
+                    "SELECT id FROM tournaments_archive WHERE club_id = ?", Long.class, clubId);
+            long maxId = maxGeneratedId(sourceJdbc, clubId);
+            long targetIdLimit = idLimit(targetShard);
+            if (maxId >= targetIdLimit) {
+                throw new IllegalStateException("Club " + clubId + " has ids up to " + maxId +
+                        ", past the id range of shard " + targetShard + " (below " + targetIdLimit + ")");
+            }
+
+            Map<String, Integer> copied = new LinkedHashMap<>();
+            inTransaction(target, () -> {
+                JdbcTemplate targetJdbc = new JdbcTemplate(target);
+                for (String table : CLUB_TABLES) {
+                    copied.put(table, copy(sourceJdbc, targetJdbc, table, "club_id", List.of(clubId)));
+                }
+                for (String table : TOURNAMENT_TABLES) {
+                    copied.put(table, copy(sourceJdbc, targetJdbc, table, "tournament_id", tournamentIds));
+                }
+                for (String table : ARCHIVED_TOURNAMENT_TABLES) {
+                    copied.put(table, copy(sourceJdbc, targetJdbc, table, "tournament_id", archivedIds));
+                }
+            });
+
+            router.finishMove(clubId, targetShard);
+            switched = true;
+            // Instances that have not seen the switch yet still read from the source
+            pause(router.settleMillis());
+
+            inTransaction(source, () -> {
+                for (String table : ARCHIVED_TOURNAMENT_TABLES) {
+                    delete(sourceJdbc, table, "tournament_id", archivedIds);
+                }
+                List<String> children = new ArrayList<>(TOURNAMENT_TABLES);
+                Collections.reverse(children);
+                for (String table : children) {
+                    delete(sourceJdbc, table, "tournament_id", tournamentIds);
+                }
+                List<String> parents = new ArrayList<>(CLUB_TABLES);
+                Collections.reverse(parents);
+                for (String table : parents) {
+                    delete(sourceJdbc, table, "club_id", List.of(clubId));
+                }
+            });
+            log.info("Moved club {} from shard {} to {}: {}", clubId, sourceShard, targetShard, copied);
+            return copied;
+        } finally {
+            if (!switched) {
+                router.abortMove(clubId);
+            }
+        }
+    }
+
+    // Highest AUTO_INCREMENT id among the club's rows
+    private static long maxGeneratedId(JdbcTemplate jdbc, String clubId) {
+        long members = jdbc.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM members WHERE club_id = ?", Long.class, clubId);
+        long tournaments = jdbc.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM tournaments WHERE club_id = ?", Long.class, clubId);
+        long waitlist = jdbc.queryForObject("SELECT COALESCE(MAX(w.id), 0) FROM tournament_waitlist w " +
+                "JOIN tournaments t ON t.id = w.tournament_id WHERE t.club_id = ?", Long.class, clubId);
+        return Math.max(members, Math.max(tournaments, waitlist));
+    }
+
+    // Where the next shard's id range starts, i.e. the lowest offset above this shard's
+    private long idLimit(String shard) {
+        long offset = router.idOffset(shard);
+        return router.shardNames().stream()
+                .mapToLong(router::idOffset)
+                .filter(other -> other > offset)
+                .min()
+                .orElse(Long.MAX_VALUE);
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shard move was interrupted", e);
+        }
+    }
+
+    private static int copy(JdbcTemplate source, JdbcTemplate target, String table, String keyColumn, List<?> keys) {
+        int copied = 0;
+        for (List<?> chunk : chunks(keys)) {
+            SqlRowSet rows = source.queryForRowSet(
+                    "SELECT * FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+            SqlRowSetMetaData meta = rows.getMetaData();
+            int columns = meta.getColumnCount();
+            String insert = "INSERT INTO " + table + " (" + String.join(", ", meta.getColumnNames()) +
+                    ") VALUES (" + placeholders(columns) + ")";
+
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            while (rows.next()) {
+                Object[] values = new Object[columns];
+                for (int i = 0; i < columns; i++) {
+                    values[i] = rows.getObject(i + 1);
+                }
+                batch.add(values);
+                if (batch.size() == BATCH_SIZE) {
+                    target.batchUpdate(insert, batch);
+                    copied += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                target.batchUpdate(insert, batch);
+                copied += batch.size();
+            }
+        }
+        return copied;
+    }
+
+    private static void delete(JdbcTemplate jdbc, String table, String keyColumn, List<?> keys) {
+        for (List<?> chunk : chunks(keys)) {
+            jdbc.update("DELETE FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+        }
+    }
+
+    private static void inTransaction(DataSource dataSource, Runnable work) {
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> work.run());
+    }
+
+    private static List<? extends List<?>> chunks(List<?> keys) {
+        List<List<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+            chunks.add(keys.subList(from, Math.min(keys.size(), from + BATCH_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
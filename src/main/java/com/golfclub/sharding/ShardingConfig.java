@@ -0,0 +1,68 @@
+package com.golfclub.sharding;
+
+import com.golfclub.admission.PoolWaitMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single application DataSource with one that routes each
+ * club to its shard. The {@code spring.datasource} database is the default
+ * shard; extra shards come from {@code golfclub.sharding.shards.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ClubShardRouter clubShardRouter(DataSourceProperties dataSourceProperties, ShardingProperties sharding,
+                                           PoolWaitMonitor poolWaitMonitor) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        Map<String, Long> idOffsets = new HashMap<>();
+        shards.put(sharding.getDefaultShard(),
+                pool(sharding.getDefaultShard(), dataSourceProperties.initializeDataSourceBuilder(), poolWaitMonitor));
+        sharding.getShards().forEach((name, shard) -> {
+            shards.put(name, pool(name, DataSourceBuilder.create()
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(shard.getUrl())
+                    .username(shard.getUsername() != null ? shard.getUsername() : dataSourceProperties.determineUsername())
+                    .password(shard.getPassword() != null ? shard.getPassword() : dataSourceProperties.determinePassword()),
+                    poolWaitMonitor));
+            idOffsets.put(name, shard.getIdOffset());
+        });
+        return new ClubShardRouter(sharding.getDefaultShard(), shards, idOffsets, sharding.getClubs(),
+                sharding.getDirectoryRefreshMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ClubShardRouter router) {
+        return new ClubRoutingDataSource(router);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer clubTenantCustomizer() {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new ClubTenantResolver());
+    }
+
+    public static String poolName(String shard) {
+        return "shard-" + shard;
+    }
+
+    private static HikariDataSource pool(String shard, DataSourceBuilder<?> builder, PoolWaitMonitor poolWaitMonitor) {
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName(poolName(shard));
+        dataSource.setMetricsTrackerFactory(poolWaitMonitor);
+        return dataSource;
+    }
+}
@@ -0,0 +1,100 @@
+package com.golfclub.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Extra shards and initial club assignments. The default shard is the
+ * {@code spring.datasource} database; clubs without an assignment live there.
+ */
+@ConfigurationProperties("golfclub.sharding")
+public class ShardingProperties {
+    private String defaultShard = "default";
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+    private Map<String, String> clubs = new HashMap<>();
+    private long directoryRefreshMs = 1000;
+    // Longest a write request may take; a move waits this long for other instances' writes to finish
+    private long moveDrainMs = 10_000;
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    public void setDefaultShard(String defaultShard) {
+        this.defaultShard = defaultShard;
+    }
+
+    public Map<String, Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(Map<String, Shard> shards) {
+        this.shards = shards;
+    }
+
+    public Map<String, String> getClubs() {
+        return clubs;
+    }
+
+    public void setClubs(Map<String, String> clubs) {
+        this.clubs = clubs;
+    }
+
+    public long getDirectoryRefreshMs() {
+        return directoryRefreshMs;
+    }
+
+    public void setDirectoryRefreshMs(long directoryRefreshMs) {
+        this.directoryRefreshMs = directoryRefreshMs;
+    }
+
+    public long getMoveDrainMs() {
+        return moveDrainMs;
+    }
+
+    public void setMoveDrainMs(long moveDrainMs) {
+        this.moveDrainMs = moveDrainMs;
+    }
+
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        // First auto-increment id on this shard, so ids stay unique across shards
+        private long idOffset;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public long getIdOffset() {
+            return idOffset;
+        }
+
+        public void setIdOffset(long idOffset) {
+            this.idOffset = idOffset;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Tournament dates copied onto each registration so a member's schedule
+-- can be read from one covering index without joining tournaments.
+-- Backfilled in batches by V11; new rows are filled by TournamentService.
+ALTER TABLE tournament_members
+    ADD COLUMN start_date DATE NULL,
+    ADD COLUMN end_date DATE NULL,
+    ALGORITHM=INSTANT;
+
+ALTER TABLE tournament_members
+    ADD INDEX idx_tournament_members_schedule (member_id, start_date, end_date, tournament_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
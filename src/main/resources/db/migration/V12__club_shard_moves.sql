@@ -0,0 +1,4 @@
+-- Target shard of a club that is being moved; every instance reads it to stop writes for the club
+ALTER TABLE club_shards
+    ADD COLUMN moving_to VARCHAR(64) NULL,
+    ALGORITHM=INSTANT;
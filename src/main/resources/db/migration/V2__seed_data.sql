@@ -0,0 +1,25 @@
+-- Sample data, taken from mysql/init/01-init.sql
+
+INSERT INTO members (member_name, member_address, member_email, member_phone, start_date, duration, status)
+VALUES
+('Brenda Armstrong', 'Witless Bay', 'hello@brendaarmstrong.ca', '709-682-6878', '2024-11-18', 12, 'ACTIVE'),
+('Stephan Bendiksen', 'St Johns', 'stephan@bendiksen.net', '709-699-2680', '2024-11-19', 60, 'ACTIVE'),
+('Louis Armstrong', 'Ottawa', 'smacko@gmail.com', '709-999-9999', '2024-11-19', 36, 'ACTIVE'),
+('Jamie Cornick', 'Mount Pearl', 'jamie@testgolf.com', '709-888-8888', '2024-11-19', 36, 'ACTIVE'),
+('Maurice Belbin', 'CBS', 'maurice@biggolf.com', '555-555-5555', '2024-11-19', 48, 'ACTIVE');
+
+INSERT INTO tournaments (start_date, end_date, location, entry_fee, cash_prize_amount, minimum_participants, maximum_participants, status)
+VALUES
+('2024-06-15', '2024-06-18', 'Clovelly Golf Club', 150.00, 2000.00, 2, 50, 'SCHEDULED'),
+('2024-07-01', '2024-07-03', 'Bally Haly Country Club', 200.00, 3000.00, 4, 40, 'SCHEDULED'),
+('2024-08-15', '2024-08-17', 'Glendenning Golf', 175.00, 2500.00, 3, 45, 'SCHEDULED'),
+('2024-09-01', '2024-09-03', 'Admiral''s Green', 225.00, 3500.00, 5, 60, 'SCHEDULED'),
+('2024-10-01', '2024-10-03', 'The Wilds', 180.00, 2800.00, 3, 55, 'SCHEDULED');
+
+INSERT INTO tournament_members (tournament_id, member_id)
+VALUES
+(1, 1), (1, 2),
+(2, 3), (2, 4),
+(3, 5), (3, 1),
+(4, 2), (4, 3),
+(5, 4), (5, 5);
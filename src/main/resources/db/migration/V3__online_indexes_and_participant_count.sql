@@ -0,0 +1,20 @@
+-- Online DDL: none of these statements block concurrent reads or writes.
+-- MySQL fails the statement instead of silently falling back to a locking
+-- algorithm if the requested ALGORITHM/LOCK cannot be honoured.
+
+ALTER TABLE tournaments
+    ADD INDEX idx_tournament_status_start (status, start_date),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE tournaments
+    ADD INDEX idx_tournament_dates (start_date, end_date),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE tournament_members
+    ADD INDEX idx_tournament_members_member (member_id, tournament_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Derived column, backfilled in batches by V4
+ALTER TABLE tournaments
+    ADD COLUMN participant_count INT NOT NULL DEFAULT 0,
+    ALGORITHM=INSTANT;
@@ -0,0 +1,11 @@
+CREATE TABLE tournament_waitlist (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    priority INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL,
+    UNIQUE KEY uk_waitlist_tournament_member (tournament_id, member_id),
+    KEY idx_waitlist_order (tournament_id, priority, id),
+    FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES members(id) ON DELETE CASCADE
+);
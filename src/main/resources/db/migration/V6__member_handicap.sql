@@ -0,0 +1,3 @@
+ALTER TABLE members
+    ADD COLUMN handicap DECIMAL(4,1) NULL,
+    ALGORITHM=INSTANT;
@@ -0,0 +1,11 @@
+CREATE TABLE hole_scores (
+    tournament_id BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    round_number INT NOT NULL,
+    hole INT NOT NULL,
+    strokes INT NOT NULL,
+    recorded_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (tournament_id, member_id, round_number, hole),
+    FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES members(id) ON DELETE CASCADE
+);
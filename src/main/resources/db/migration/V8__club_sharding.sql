@@ -0,0 +1,31 @@
+-- Club (tenant) dimension. Existing rows belong to the default club.
+ALTER TABLE members
+    ADD COLUMN club_id VARCHAR(32) NOT NULL DEFAULT 'default',
+    ALGORITHM=INSTANT;
+
+ALTER TABLE tournaments
+    ADD COLUMN club_id VARCHAR(32) NOT NULL DEFAULT 'default',
+    ALGORITHM=INSTANT;
+
+ALTER TABLE members
+    ADD INDEX idx_member_club (club_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE tournaments
+    ADD INDEX idx_tournament_club_status (club_id, status),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Club-to-shard assignments; only read from the default shard
+CREATE TABLE club_shards (
+    club_id VARCHAR(32) PRIMARY KEY,
+    shard_name VARCHAR(64) NOT NULL,
+    updated_at DATETIME NOT NULL
+);
+
+-- Email and phone only need to be unique within a club
+ALTER TABLE members
+    DROP INDEX member_email,
+    DROP INDEX member_phone,
+    ADD UNIQUE INDEX uk_member_club_email (club_id, member_email),
+    ADD UNIQUE INDEX uk_member_club_phone (club_id, member_phone),
+    ALGORITHM=INPLACE, LOCK=NONE;
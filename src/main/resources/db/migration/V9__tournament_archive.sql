@@ -0,0 +1,65 @@
+-- Archive for COMPLETED/CANCELLED tournaments, filled by TournamentArchiver.
+-- Partitioned by the year the tournament ended; the archiver adds a
+-- partition per year ahead of time by splitting pmax. Partitioned tables
+-- cannot have foreign keys, so the archive has none.
+
+CREATE TABLE tournaments_archive (
+    id BIGINT NOT NULL,
+    archive_year SMALLINT NOT NULL,
+    club_id VARCHAR(32) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    location VARCHAR(100) NOT NULL,
+    entry_fee DECIMAL(10,2) NOT NULL,
+    cash_prize_amount DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    minimum_participants INT NOT NULL,
+    maximum_participants INT NOT NULL,
+    participant_count INT NOT NULL,
+    version BIGINT,
+    archived_at DATETIME NOT NULL,
+    PRIMARY KEY (id, archive_year),
+    KEY idx_archive_club_end (club_id, end_date)
+)
+PARTITION BY RANGE (archive_year) (
+    PARTITION p2024 VALUES LESS THAN (2025),
+    PARTITION p2025 VALUES LESS THAN (2026),
+    PARTITION p2026 VALUES LESS THAN (2027),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE tournament_members_archive (
+    tournament_id BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    archive_year SMALLINT NOT NULL,
+    PRIMARY KEY (tournament_id, member_id, archive_year),
+    KEY idx_members_archive_member (member_id)
+)
+PARTITION BY RANGE (archive_year) (
+    PARTITION p2024 VALUES LESS THAN (2025),
+    PARTITION p2025 VALUES LESS THAN (2026),
+    PARTITION p2026 VALUES LESS THAN (2027),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE hole_scores_archive (
+    tournament_id BIGINT NOT NULL,
+    member_id BIGINT NOT NULL,
+    round_number INT NOT NULL,
+    hole INT NOT NULL,
+    strokes INT NOT NULL,
+    recorded_at DATETIME(3) NOT NULL,
+    archive_year SMALLINT NOT NULL,
+    PRIMARY KEY (tournament_id, member_id, round_number, hole, archive_year)
+)
+PARTITION BY RANGE (archive_year) (
+    PARTITION p2024 VALUES LESS THAN (2025),
+    PARTITION p2025 VALUES LESS THAN (2026),
+    PARTITION p2026 VALUES LESS THAN (2027),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+-- Lets the archiver find old finished tournaments without a full scan
+ALTER TABLE tournaments
+    ADD INDEX idx_tournament_status_end (status, end_date),
+    ALGORITHM=INPLACE, LOCK=NONE;
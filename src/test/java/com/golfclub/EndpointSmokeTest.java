@@ -0,0 +1,66 @@
+package com.golfclub;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Drives the controller endpoints against a local database. Also runs
+ * inside the native image with {@code mvn -PnativeTest test}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EndpointSmokeTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void createAndFetchMember() {
+		// Milliseconds since the epoch, as ten digits, so no earlier run used the same phone number
+		String digits = String.format("%010d", System.currentTimeMillis() % 10_000_000_000L);
+		Map<String, Object> member = Map.of(
+				"memberName", "Smoke Test",
+				"memberAddress", "St Johns",
+				"memberEmail", "smoke" + System.nanoTime() + "@example.com",
+				"memberPhone", digits.substring(0, 3) + "-" + digits.substring(3, 6) + "-" + digits.substring(6),
+				"startDate", LocalDate.now().toString(),
+				"duration", 12);
+
+		ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/members", member, Map.class);
+		assertEquals(HttpStatus.CREATED, created.getStatusCode());
+		assertNotNull(created.getBody().get("id"));
+
+		ResponseEntity<Map> fetched = restTemplate.getForEntity(
+				"/api/v1/members/" + created.getBody().get("id"), Map.class);
+		assertEquals(HttpStatus.OK, fetched.getStatusCode());
+		assertEquals(member.get("memberEmail"), fetched.getBody().get("memberEmail"));
+	}
+
+	@Test
+	void createAndListTournaments() {
+		Map<String, Object> tournament = Map.of(
+				"startDate", LocalDate.now().plusDays(30).toString(),
+				"endDate", LocalDate.now().plusDays(32).toString(),
+				"location", "Smoke Test Links",
+				"entryFee", 100.0,
+				"cashPrizeAmount", 1000.0,
+				"minimumParticipants", 2,
+				"maximumParticipants", 20);
+
+		ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/tournaments", tournament, Map.class);
+		assertEquals(HttpStatus.CREATED, created.getStatusCode());
+
+		ResponseEntity<List> all = restTemplate.getForEntity("/api/v1/tournaments", List.class);
+		assertEquals(HttpStatus.OK, all.getStatusCode());
+		assertNotNull(all.getBody());
+	}
+}
@@ -0,0 +1,86 @@
+package com.golfclub;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Money;
+import com.golfclub.model.Tournament;
+import com.golfclub.repository.MemberRepo;
+import com.golfclub.repository.TournamentRepo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The in-memory cents arithmetic must match what MySQL bills: each
+ * registration row in tournament_members at the fee stored in DECIMAL,
+ * summed to the cent.
+ */
+@SpringBootTest
+@Transactional
+class RevenueReconciliationTest {
+
+	@Autowired
+	private TournamentRepo tournamentRepository;
+
+	@Autowired
+	private MemberRepo memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void inMemoryRevenueMatchesSqlSumOverRegistrations() {
+		Money before = Money.of(tournamentRepository.calculateTotalRevenue());
+
+		List<Member> members = new ArrayList<>();
+		long unique = System.nanoTime() % 1_000_000;
+		for (int i = 0; i < 7; i++) {
+			members.add(memberRepository.save(new Member("Revenue Check", "Test Street",
+					"revenue" + unique + "x" + i + "@example.com",
+					String.format("8%02d-%03d-%04d", i, unique % 1000, unique % 10_000),
+					LocalDate.now(), 12)));
+		}
+
+		String location = "Reconciliation " + unique + " ";
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Tournament tournament = new Tournament(LocalDate.now().plusDays(10), LocalDate.now().plusDays(11),
+					location + i, Money.ZERO, Money.ZERO);
+			for (int m = 0; m <= i && m < members.size(); m++) {
+				tournament.addMember(members.get(m));
+			}
+			tournament.setStatus(Tournament.TournamentStatus.COMPLETED);
+			ids.add(tournamentRepository.save(tournament).getId());
+		}
+		tournamentRepository.flush();
+
+		// Binary floating point would not add these up exactly, and the last three have fractional
+		// cents that MySQL rounds to the column's scale on write; the entities must read back what was stored
+		String[] fees = {"0.10", "0.20", "19.99", "33.33", "150.01", "12.345", "0.005", "99.994"};
+		for (int i = 0; i < fees.length; i++) {
+			jdbc.update("UPDATE tournaments SET entry_fee = ? WHERE id = ?", new BigDecimal(fees[i]), ids.get(i));
+		}
+		entityManager.clear();
+		List<Tournament> tournaments = tournamentRepository.findAllById(ids);
+		assertEquals(ids.size(), tournaments.size());
+
+		BigDecimal billed = jdbc.queryForObject("SELECT COALESCE(SUM(t.entry_fee), 0) FROM tournaments t " +
+				"JOIN tournament_members tm ON tm.tournament_id = t.id WHERE t.location LIKE ?",
+				BigDecimal.class, location + "%");
+		assertEquals(Money.of(billed).cents(), Tournament.calculateTotalRevenue(tournaments).cents());
+
+		Money after = Money.of(tournamentRepository.calculateTotalRevenue());
+		assertEquals(Money.of(billed).cents(), after.cents() - before.cents());
+	}
+}
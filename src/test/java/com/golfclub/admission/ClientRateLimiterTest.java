@@ -0,0 +1,42 @@
+package com.golfclub.admission;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimiterTest {
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void allowsBurstThenRefillsAtRate() {
+		ClientRateLimiter limiter = new ClientRateLimiter(10, 5, 4, 100);
+		long now = 1_000 * SECOND;
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, limiter.tryAcquire("key:a", now));
+		}
+		long wait = limiter.tryAcquire("key:a", now);
+		assertTrue(wait > 0 && wait <= SECOND / 10, "wait " + wait);
+		assertEquals(0, limiter.tryAcquire("key:b", now));
+		assertEquals(0, limiter.tryAcquire("key:a", now + SECOND / 10));
+		assertEquals(7, limiter.allowed());
+		assertEquals(1, limiter.limited());
+	}
+
+	@Test
+	void clientsBeyondCapShareOverflowBucket() {
+		ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 1, 1);
+		long now = System.nanoTime();
+
+		assertEquals(0, limiter.tryAcquire("key:a", now));
+		assertEquals(0, limiter.tryAcquire("key:b", now));
+		assertTrue(limiter.tryAcquire("key:c", now) > 0);
+		assertEquals(1, limiter.clients());
+
+		// By now a's bucket is full again, so it is dropped to make room
+		assertEquals(0, limiter.tryAcquire("key:c", now + SECOND));
+		assertEquals(1, limiter.clients());
+	}
+}
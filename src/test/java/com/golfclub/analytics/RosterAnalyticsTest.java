@@ -0,0 +1,66 @@
+package com.golfclub.analytics;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RosterAnalyticsTest {
+	private final RosterAnalytics analytics = new RosterAnalytics(2);
+
+	@Test
+	void ranksCoPlayersByTournamentsShared() {
+		RosterGraph graph = graph(false);
+
+		assertEquals(List.of(new CoPlayer(2, 2), new CoPlayer(3, 1)), analytics.coPlayers(graph, 1, 10));
+		assertEquals(List.of(new PlayingPair(1, 2, 2)), analytics.frequentPairs(graph, 2, 10));
+		assertEquals(List.of(), analytics.coPlayers(graph, 99, 10));
+	}
+
+	@Test
+	void findsSimilarTournamentsOffHeap() {
+		RosterGraph graph = graph(true);
+
+		List<SimilarTournament> similar = analytics.similarTournaments(graph, 10, 10);
+
+		assertEquals(1, similar.size());
+		assertEquals(20, similar.get(0).tournamentId());
+		assertEquals(2.0 / 3, similar.get(0).similarity(), 1e-9);
+		assertEquals(Map.of(1, 1, 2, 2), analytics.participationHistogram(graph).membersByTournamentCount());
+		assertEquals(5, graph.edgeCount());
+	}
+
+	@Test
+	void answersFromChangesLaidOverTheGraph() {
+		RosterGraph.Changes changes = new RosterGraph.Changes();
+		changes.register(4, 10);
+		changes.register(3, 30);
+		changes.unregister(2, 10);
+		changes.removeTournament(20);
+		RosterGraph graph = graph(false).withChanges(changes);
+
+		assertEquals(List.of(new CoPlayer(3, 1), new CoPlayer(4, 1)), analytics.coPlayers(graph, 1, 10));
+		assertEquals(List.of(), analytics.coPlayers(graph, 2, 10));
+		assertEquals(4, graph.edgeCount());
+		assertEquals(3, graph.activeMemberCount());
+		assertEquals(Map.of(1, 2, 2, 1), analytics.participationHistogram(graph).membersByTournamentCount());
+
+		RosterGraph compacted = graph.compact();
+		assertEquals(analytics.coPlayers(graph, 3, 10), analytics.coPlayers(compacted, 3, 10));
+		assertEquals(3, compacted.memberCount());
+		assertEquals(-1, compacted.tournamentIndex(20));
+	}
+
+	// Members 1 and 2 play tournaments 10 and 20, member 3 only 10; the duplicate is dropped
+	private static RosterGraph graph(boolean offHeap) {
+		RosterGraph.Builder builder = new RosterGraph.Builder(offHeap);
+		builder.add(1, 10);
+		builder.add(2, 20);
+		builder.add(3, 10);
+		builder.add(1, 20);
+		builder.add(2, 10);
+		builder.add(1, 10);
+		return builder.build();
+	}
+}
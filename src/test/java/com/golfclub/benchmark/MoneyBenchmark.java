@@ -0,0 +1,89 @@
+package com.golfclub.benchmark;
+
+import com.golfclub.model.Member;
+import com.golfclub.model.Money;
+import com.golfclub.model.Tournament;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed Double arithmetic (the previous representation) against long cents.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+	@Param({"1000"})
+	private int tournamentCount;
+
+	private List<Tournament> tournaments;
+	private List<Double> boxedFees;
+	private List<Integer> boxedParticipants;
+
+	@Setup
+	public void setUp() {
+		tournaments = new ArrayList<>();
+		boxedFees = new ArrayList<>();
+		boxedParticipants = new ArrayList<>();
+		for (int i = 0; i < tournamentCount; i++) {
+			Money fee = Money.ofCents(10_000 + i * 7L);
+			Tournament tournament = new Tournament(LocalDate.now(), LocalDate.now(), "Course", fee, Money.ZERO);
+			for (long m = 0; m < i % 40; m++) {
+				Member member = new Member();
+				member.setId(m + 1);
+				tournament.addMember(member);
+			}
+			tournaments.add(tournament);
+			boxedFees.add(fee.cents() / 100.0);
+			boxedParticipants.add(i % 40);
+		}
+	}
+
+	@Benchmark
+	public Double boxedDoubleRevenue() {
+		Double total = 0.0;
+		for (int i = 0; i < boxedFees.size(); i++) {
+			total += boxedFees.get(i) * boxedParticipants.get(i);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public Money longCentsRevenue() {
+		return Tournament.calculateTotalRevenue(tournaments);
+	}
+
+	@Benchmark
+	public void boxedDoubleWinnings(Blackhole blackhole) {
+		Double winnings = 0.0;
+		for (int i = 0; i < 1000; i++) {
+			winnings += 33.33;
+		}
+		blackhole.consume(winnings);
+	}
+
+	@Benchmark
+	public void longCentsWinnings(Blackhole blackhole) {
+		Member member = new Member();
+		for (int i = 0; i < 1000; i++) {
+			member.addWinningsCents(3333);
+		}
+		blackhole.consume(member);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MoneyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,87 @@
+package com.golfclub.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ */
+record LoadTestOptions(
+		String targetUrl,
+		double arrivalsPerSecond,
+		boolean poissonArrivals,
+		int warmupSeconds,
+		int durationSeconds,
+		int maxInFlight,
+		int members,
+		int rushTournaments,
+		int tournamentCapacity,
+		Map<Operation, Integer> mix,
+		long seed,
+		Path reportFile,
+		Path baselineFile,
+		boolean requireBaseline,
+		double tolerancePercent) {
+
+	static LoadTestOptions fromSystemProperties() {
+		LoadTestOptions options = new LoadTestOptions(
+				System.getProperty("loadtest.target-url", ""),
+				Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+				!"uniform".equals(System.getProperty("loadtest.arrivals", "poisson")),
+				Integer.getInteger("loadtest.warmup-seconds", 5),
+				Integer.getInteger("loadtest.duration-seconds", 30),
+				Integer.getInteger("loadtest.max-in-flight", 256),
+				Integer.getInteger("loadtest.members", 500),
+				Integer.getInteger("loadtest.rush-tournaments", 3),
+				Integer.getInteger("loadtest.tournament-capacity", 100),
+				parseMix(System.getProperty("loadtest.mix", "search:40,list:10,register:40,status:10")),
+				Long.getLong("loadtest.seed", 42L),
+				Path.of(System.getProperty("loadtest.report-file", "target/loadtest/report.properties")),
+				optionalPath(System.getProperty("loadtest.baseline-file", "")),
+				requireBaseline(System.getProperty("loadtest.require-baseline", "")),
+				Double.parseDouble(System.getProperty("loadtest.tolerance-percent", "20")));
+		options.validate();
+		return options;
+	}
+
+	private void validate() {
+		if (arrivalsPerSecond <= 0 || durationSeconds <= 0 || warmupSeconds < 0 || maxInFlight < 1) {
+			throw new IllegalArgumentException("Rate, duration and max in-flight must be positive");
+		}
+		if (members < 10 || rushTournaments < 1 || tournamentCapacity < 2 || tournamentCapacity > 100) {
+			throw new IllegalArgumentException("Need at least 10 members, 1 tournament and a capacity of 2-100");
+		}
+	}
+
+	// "search:40,list:10,register:40,status:10"
+	static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String part : mix.split(",")) {
+			String[] weight = part.trim().split(":");
+			if (weight.length != 2) {
+				throw new IllegalArgumentException("Invalid mix entry: " + part);
+			}
+			weights.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+		}
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("Mix weights must add up to more than zero");
+		}
+		return weights;
+	}
+
+	String describe() {
+		return String.format("rate=%.0f/s arrivals=%s warmup=%ds duration=%ds members=%d tournaments=%dx%d mix=%s",
+				arrivalsPerSecond, poissonArrivals ? "poisson" : "uniform", warmupSeconds, durationSeconds,
+				members, rushTournaments, tournamentCapacity, mix);
+	}
+
+	// Unset means required on CI servers, which set the CI environment variable
+	private static boolean requireBaseline(String value) {
+		return value.isBlank() ? System.getenv("CI") != null : Boolean.parseBoolean(value);
+	}
+
+	private static Path optionalPath(String value) {
+		return value.isBlank() ? null : Path.of(value);
+	}
+}
@@ -0,0 +1,19 @@
+package com.golfclub.loadtest;
+
+/**
+ * The kinds of request the workload mixes.
+ */
+enum Operation {
+	/** Member searches and the tournament calendar. */
+	SEARCH,
+	/** Full member and tournament listings. */
+	LIST,
+	/** Registrations racing for seats in the same few tournaments. */
+	REGISTER,
+	/** Membership status changes. */
+	STATUS;
+
+	String key() {
+		return name().toLowerCase();
+	}
+}
@@ -0,0 +1,81 @@
+package com.golfclub.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latencies and outcomes for one operation. Latency runs from when a
+ * request was scheduled to arrive, not from when it was sent, so time spent
+ * queued behind a slow server is counted.
+ */
+final class OperationStats {
+
+	enum Outcome {
+		OK, CONFLICT, OPTIMISTIC_LOCK, SHED, ERROR, DROPPED
+	}
+
+	private long[] latencies = new long[1024];
+	private int count;
+	private final long[] outcomes = new long[Outcome.values().length];
+
+	synchronized void record(long latencyNanos, Outcome outcome) {
+		outcomes[outcome.ordinal()]++;
+		if (outcome == Outcome.DROPPED) {
+			return;
+		}
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, count * 2);
+		}
+		latencies[count++] = latencyNanos;
+	}
+
+	synchronized void addTo(OperationStats total) {
+		synchronized (total) {
+			total.latencies = Arrays.copyOf(total.latencies, Math.max(total.latencies.length, total.count + count));
+			System.arraycopy(latencies, 0, total.latencies, total.count, count);
+			total.count += count;
+			for (int i = 0; i < outcomes.length; i++) {
+				total.outcomes[i] += outcomes[i];
+			}
+		}
+	}
+
+	/**
+	 * Writes {@code <prefix>.*} entries into the report.
+	 */
+	synchronized void report(String prefix, double seconds, Map<String, String> report) {
+		long requests = Arrays.stream(outcomes).sum();
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+
+		report.put(prefix + ".requests", Long.toString(requests));
+		report.put(prefix + ".throughput.rps", format(count / seconds));
+		report.put(prefix + ".latency.p50.ms", format(percentileMs(sorted, 50)));
+		report.put(prefix + ".latency.p90.ms", format(percentileMs(sorted, 90)));
+		report.put(prefix + ".latency.p99.ms", format(percentileMs(sorted, 99)));
+		report.put(prefix + ".latency.p999.ms", format(percentileMs(sorted, 99.9)));
+		report.put(prefix + ".latency.max.ms", format(sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0));
+		report.put(prefix + ".conflict.rate", format(rate(Outcome.CONFLICT, requests)));
+		report.put(prefix + ".optimistic-lock.rate", format(rate(Outcome.OPTIMISTIC_LOCK, requests)));
+		report.put(prefix + ".shed.rate", format(rate(Outcome.SHED, requests)));
+		report.put(prefix + ".error.rate", format(rate(Outcome.ERROR, requests)));
+		report.put(prefix + ".dropped.rate", format(rate(Outcome.DROPPED, requests)));
+	}
+
+	private double rate(Outcome outcome, long requests) {
+		return requests == 0 ? 0 : (double) outcomes[outcome.ordinal()] / requests;
+	}
+
+	private static double percentileMs(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+	}
+
+	static String format(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+}
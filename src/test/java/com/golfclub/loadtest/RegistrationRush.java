@@ -0,0 +1,327 @@
+package com.golfclub.loadtest;
+
+import com.golfclub.GolfClubApplication;
+import com.golfclub.loadtest.OperationStats.Outcome;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Replays an opening-day registration rush against the REST API.
+ * <p>
+ * Boots the application on a random port (or targets {@code loadtest.target-url}),
+ * seeds members and a few tournaments, then fires requests at a fixed
+ * average arrival rate regardless of how fast the server answers: searches,
+ * full listings, registrations racing for the same seats, and membership
+ * status changes. Writes throughput, latency percentiles and
+ * conflict/optimistic-lock/shed/error rates to a sorted properties file, and
+ * fails if it regresses against {@code loadtest.baseline-file}.
+ * <p>
+ * Run with {@code mvn -Ploadtest verify}; see README for the settings.
+ */
+public final class RegistrationRush {
+	private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+	private static final int CLIENTS = 50;
+	// Message Hibernate puts on a stale-version update; surfaced in the error body
+	private static final String STALE_VERSION = "updated or deleted by another transaction";
+	private static final String[] SEARCHES = {
+			"/api/v1/members/search/name/Rush",
+			"/api/v1/members/search/status/ACTIVE",
+			"/api/v1/members/search/tournaments?minCount=1",
+			"/api/v1/tournaments/calendar?from=" + LocalDate.now() + "&to=" + LocalDate.now().plusDays(90)
+	};
+
+	private final LoadTestOptions options;
+	private final HttpClient client;
+	private final String baseUrl;
+	private final SplittableRandom random;
+	private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+	private final Operation[] lottery;
+	private final List<Long> registrants = new ArrayList<>();
+	private final List<Long> statusMembers = new ArrayList<>();
+	private final List<Long> rushTournaments = new ArrayList<>();
+
+	private RegistrationRush(LoadTestOptions options, HttpClient client, String baseUrl) {
+		this.options = options;
+		this.client = client;
+		this.baseUrl = baseUrl;
+		this.random = new SplittableRandom(options.seed());
+		for (Operation operation : Operation.values()) {
+			stats.put(operation, new OperationStats());
+		}
+		List<Operation> tickets = new ArrayList<>();
+		options.mix().forEach((operation, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				tickets.add(operation);
+			}
+		});
+		this.lottery = tickets.toArray(Operation[]::new);
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+		ConfigurableApplicationContext context = null;
+		String baseUrl = options.targetUrl();
+		if (baseUrl.isBlank()) {
+			context = SpringApplication.run(GolfClubApplication.class,
+					"--server.port=0",
+					"--spring.jpa.show-sql=false",
+					"--logging.level.com.golfclub=INFO",
+					"--logging.level.org.hibernate.SQL=INFO",
+					"--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+					"--golfclub.admission.api-keys=" + String.join(",", apiKeys()));
+			baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.maxInFlight(), 64));
+		HttpClient client = HttpClient.newBuilder()
+				.executor(executor)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		int exitCode;
+		try {
+			RegistrationRush rush = new RegistrationRush(options, client, baseUrl);
+			rush.seed();
+			Map<String, String> report = rush.run();
+			writeReport(options, report);
+			exitCode = options.baselineFile() != null ? compareWithBaseline(options, report) : 0;
+		} finally {
+			executor.shutdownNow();
+			if (context != null) {
+				context.close();
+			}
+		}
+		System.exit(exitCode);
+	}
+
+	private void seed() throws IOException, InterruptedException {
+		// Unique per run so repeated runs against the same database don't collide. Phones count up
+		// from the start time in milliseconds, as ten digits; seeding takes well over a millisecond
+		// per member, so the next run starts past the last number this one used
+		long stamp = System.currentTimeMillis();
+		for (int i = 0; i < options.members(); i++) {
+			String digits = String.format("%010d", (stamp + i) % 10_000_000_000L);
+			String body = String.format("{\"memberName\":\"Rush Member\",\"memberAddress\":\"Load Street\"," +
+							"\"memberEmail\":\"rush%d.%d@example.com\",\"memberPhone\":\"%s-%s-%s\"," +
+							"\"startDate\":\"%s\",\"duration\":12}",
+					stamp, i, digits.substring(0, 3), digits.substring(3, 6), digits.substring(6), LocalDate.now());
+			long id = create("/api/v1/members", body);
+			// Every tenth member only has its status changed, so registrations mostly see active members
+			(i % 10 == 0 ? statusMembers : registrants).add(id);
+		}
+		// Dates don't overlap, so a member can register for every rush tournament
+		for (int i = 0; i < options.rushTournaments(); i++) {
+			String body = String.format("{\"startDate\":\"%s\",\"endDate\":\"%s\",\"location\":\"Rush Course %d\"," +
+							"\"entryFee\":50.00,\"cashPrizeAmount\":1000.00,\"minimumParticipants\":2," +
+							"\"maximumParticipants\":%d}",
+					LocalDate.now().plusDays(30 + 2 * i), LocalDate.now().plusDays(31 + 2 * i), i, options.tournamentCapacity());
+			rushTournaments.add(create("/api/v1/tournaments", body));
+		}
+		System.out.printf("Seeded %d members and %d tournaments%n", options.members(), options.rushTournaments());
+	}
+
+	private long create(String path, String json) throws IOException, InterruptedException {
+		HttpResponse<String> response = client.send(request(path)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build(), HttpResponse.BodyHandlers.ofString());
+		Matcher id = ID.matcher(response.body());
+		if (response.statusCode() != 201 || !id.find()) {
+			throw new IllegalStateException("Seeding " + path + " failed with " + response.statusCode() + ": " + response.body());
+		}
+		return Long.parseLong(id.group(1));
+	}
+
+	private Map<String, String> run() {
+		Semaphore inFlight = new Semaphore(options.maxInFlight());
+		long meanIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.arrivalsPerSecond());
+		long start = System.nanoTime();
+		long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+		long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+		System.out.println("Driving load: " + options.describe());
+
+		List<CompletableFuture<Void>> pending = new ArrayList<>();
+		long next = start;
+		while (next < end) {
+			long wait = next - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			Operation operation = lottery[random.nextInt(lottery.length)];
+			boolean measured = next >= measureFrom;
+			if (!inFlight.tryAcquire()) {
+				// The client is saturated; count it rather than silently slowing the arrival rate
+				if (measured) {
+					stats.get(operation).record(0, Outcome.DROPPED);
+				}
+			} else {
+				long intendedStart = next;
+				CompletableFuture<Void> call = client.sendAsync(build(operation), HttpResponse.BodyHandlers.ofString())
+						.handle((response, failure) -> {
+							inFlight.release();
+							if (measured) {
+								stats.get(operation).record(System.nanoTime() - intendedStart, classify(response, failure));
+							}
+							return null;
+						});
+				pending.add(call);
+				pending.removeIf(CompletableFuture::isDone);
+			}
+			next += options.poissonArrivals()
+					? (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos)
+					: meanIntervalNanos;
+		}
+		CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+
+		double seconds = options.durationSeconds();
+		Map<String, String> report = new TreeMap<>();
+		OperationStats total = new OperationStats();
+		stats.forEach((operation, operationStats) -> {
+			operationStats.report(operation.key(), seconds, report);
+			operationStats.addTo(total);
+		});
+		total.report("all", seconds, report);
+		return report;
+	}
+
+	private HttpRequest build(Operation operation) {
+		return switch (operation) {
+			case SEARCH -> request(SEARCHES[random.nextInt(SEARCHES.length)]).GET().build();
+			case LIST -> request(random.nextBoolean() ? "/api/v1/members" : "/api/v1/tournaments").GET().build();
+			case REGISTER -> request("/api/v1/tournaments/" + pick(rushTournaments) + "/members/" + pick(registrants))
+					.POST(HttpRequest.BodyPublishers.noBody()).build();
+			case STATUS -> request("/api/v1/members/" + pick(statusMembers) + "/status")
+					.header("Content-Type", "application/json")
+					.method("PATCH", HttpRequest.BodyPublishers.ofString(
+							random.nextInt(4) == 0 ? "{\"status\":\"SUSPENDED\"}" : "{\"status\":\"ACTIVE\"}"))
+					.build();
+		};
+	}
+
+	// Spread over several API keys, as many integrations would be, so the per-client limit isn't what's measured
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("X-Api-Key", apiKey(random.nextInt(CLIENTS)))
+				.timeout(Duration.ofSeconds(30));
+	}
+
+	// The server only gives registered keys a bucket of their own
+	private static List<String> apiKeys() {
+		return IntStream.range(0, CLIENTS).mapToObj(RegistrationRush::apiKey).toList();
+	}
+
+	private static String apiKey(int client) {
+		return "rush-client-" + client;
+	}
+
+	private long pick(List<Long> ids) {
+		return ids.get(random.nextInt(ids.size()));
+	}
+
+	private static Outcome classify(HttpResponse<String> response, Throwable failure) {
+		if (failure != null) {
+			return Outcome.ERROR;
+		}
+		int status = response.statusCode();
+		if (status < 300) {
+			return Outcome.OK;
+		}
+		if (status == 429 || status == 503) {
+			return Outcome.SHED;
+		}
+		if (status == 409) {
+			// Full tournament, duplicate registration or a lost race for the tournament's version
+			return Outcome.CONFLICT;
+		}
+		// A stale-version failure that still escapes as a 500
+		if (response.body() != null && response.body().contains(STALE_VERSION)) {
+			return Outcome.OPTIMISTIC_LOCK;
+		}
+		return Outcome.ERROR;
+	}
+
+	// Sorted and without a timestamp so two reports diff cleanly
+	private static void writeReport(LoadTestOptions options, Map<String, String> report) throws IOException {
+		Path file = options.reportFile();
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (Writer writer = Files.newBufferedWriter(file)) {
+			writer.write("# Registration rush: " + options.describe() + System.lineSeparator());
+			for (Map.Entry<String, String> entry : report.entrySet()) {
+				writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+			}
+		}
+		report.forEach((key, value) -> System.out.println(key + " = " + value));
+		System.out.println("Report written to " + file.toAbsolutePath());
+	}
+
+	/**
+	 * @return 1 if p99 latency or the error, shed or dropped rate rose, or
+	 *         throughput fell, past the baseline by more than the tolerance,
+	 *         or if a required baseline is missing, else 0
+	 */
+	private static int compareWithBaseline(LoadTestOptions options, Map<String, String> report) throws IOException {
+		if (!Files.exists(options.baselineFile())) {
+			System.out.println("No baseline at " + options.baselineFile() + "; copy the report there to create one");
+			return options.requireBaseline() ? 1 : 0;
+		}
+		Properties baseline = new Properties();
+		try (var reader = Files.newBufferedReader(options.baselineFile())) {
+			baseline.load(reader);
+		}
+		double tolerance = 1 + options.tolerancePercent() / 100;
+		int regressions = 0;
+		for (Map.Entry<String, String> entry : report.entrySet()) {
+			String key = entry.getKey();
+			String previous = baseline.getProperty(key);
+			if (previous == null || !isGated(key)) {
+				continue;
+			}
+			double before = Double.parseDouble(previous);
+			double now = Double.parseDouble(entry.getValue());
+			// Small absolute slack so near-zero baselines don't flag noise
+			double slack = key.endsWith(".ms") || key.endsWith(".rps") ? 1.0 : 0.001;
+			// Shed requests are fast, so shedding more can lower p99; throughput is checked from below
+			boolean regressed = key.endsWith(".throughput.rps")
+					? now < before / tolerance - slack
+					: now > before * tolerance + slack;
+			if (regressed) {
+				System.out.printf("REGRESSION %s: %s -> %s%n", key, previous, entry.getValue());
+				regressions++;
+			}
+		}
+		System.out.println(regressions == 0 ? "No regressions against baseline" : regressions + " regression(s) against baseline");
+		return regressions == 0 ? 0 : 1;
+	}
+
+	private static boolean isGated(String key) {
+		return key.endsWith(".latency.p99.ms") || key.endsWith(".error.rate") || key.endsWith(".shed.rate")
+				|| key.endsWith(".dropped.rate") || key.endsWith(".throughput.rps");
+	}
+}
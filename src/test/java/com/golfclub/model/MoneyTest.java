@@ -0,0 +1,45 @@
+package com.golfclub.model;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+	@Test
+	void convertsToAndFromDecimalExactly() {
+		assertEquals(15000, Money.of(new BigDecimal("150.00")).cents());
+		assertEquals(new BigDecimal("0.30"), Money.ofCents(10).plus(Money.ofCents(20)).toBigDecimal());
+		assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1.005")));
+	}
+
+	@Test
+	void repeatedAdditionDoesNotDrift() {
+		Member member = new Member();
+		for (int i = 0; i < 10; i++) {
+			member.addWinnings(Money.of(new BigDecimal("0.10")));
+		}
+		assertEquals(Money.ofCents(100), member.getTotalWinnings());
+	}
+
+	@Test
+	void allocationAddsUpToTotal() {
+		long[] shares = new long[3];
+		Money.allocate(1000, shares);
+
+		assertArrayEquals(new long[]{334, 333, 333}, shares);
+		assertEquals(1000, Arrays.stream(shares).sum());
+	}
+
+	@Test
+	void converterRoundTripsDecimalColumn() {
+		MoneyCentsConverter converter = new MoneyCentsConverter();
+
+		assertEquals(new BigDecimal("2500.75"), converter.convertToDatabaseColumn(250075L));
+		assertEquals(250075L, converter.convertToEntityAttribute(new BigDecimal("2500.75")));
+	}
+}
@@ -0,0 +1,65 @@
+package com.golfclub.scheduling;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PairingSchedulerTest {
+	private final PairingScheduler scheduler = new PairingScheduler(2);
+
+	@Test
+	void assignsEveryPlayerOnceWithTeeTimes() {
+		List<Flight.Player> players = players(10, id -> (double) id * 3);
+		PairingOptions options = new PairingOptions(4, LocalTime.of(8, 0), null, 10, 100);
+
+		PairingPlan plan = scheduler.schedule(1L, players, Map.of(), options);
+
+		assertEquals(3, plan.flights().size());
+		assertEquals(LocalTime.of(8, 20), plan.flights().get(2).teeTime());
+		Set<Long> seen = new HashSet<>();
+		plan.flights().forEach(f -> f.players().forEach(p -> assertTrue(seen.add(p.memberId()))));
+		assertEquals(10, seen.size());
+	}
+
+	@Test
+	void minimisesRepeatPairings() {
+		List<Flight.Player> players = players(8, id -> 10.0);
+		Map<Long, Set<Long>> pastPartners = new HashMap<>();
+		for (long a = 1; a <= 8; a++) {
+			for (long b = a + 1; b <= 8; b++) {
+				if ((a <= 4) == (b <= 4)) {
+					pastPartners.computeIfAbsent(a, id -> new HashSet<>()).add(b);
+				}
+			}
+		}
+
+		PairingPlan plan = scheduler.schedule(1L, players, pastPartners,
+				new PairingOptions(4, LocalTime.of(8, 0), null, 10, 200));
+
+		// Two groups drawn from two cliques of four: best possible is two repeats per group
+		assertEquals(4, plan.repeatPairings());
+	}
+
+	@Test
+	void rejectsTeeTimeWindowThatIsTooShort() {
+		PairingOptions options = new PairingOptions(4, LocalTime.of(8, 0), LocalTime.of(8, 10), 10, 100);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> scheduler.schedule(1L, players(12, id -> 0.0), Map.of(), options));
+	}
+
+	private static List<Flight.Player> players(int count, java.util.function.LongFunction<Double> handicap) {
+		return LongStream.rangeClosed(1, count)
+				.mapToObj(id -> new Flight.Player(id, "Player " + id, handicap.apply(id)))
+				.toList();
+	}
+}
@@ -0,0 +1,46 @@
+package com.golfclub.service;
+
+import com.golfclub.model.HoleScore;
+import com.golfclub.model.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeaderboardTest {
+
+	@Test
+	void ranksByHolesPlayedThenStrokesWithTies() {
+		Leaderboard leaderboard = new Leaderboard(1L, List.of(10L, 20L, 30L));
+		leaderboard.record(new HoleScore(1L, 10L, 1, 1, 5));
+		leaderboard.record(new HoleScore(1L, 10L, 1, 2, 4));
+		leaderboard.record(new HoleScore(1L, 20L, 1, 1, 4));
+		leaderboard.record(new HoleScore(1L, 20L, 1, 2, 5));
+		leaderboard.record(new HoleScore(1L, 30L, 1, 1, 3));
+
+		List<LeaderboardEntry> standings = leaderboard.standings();
+
+		assertEquals(1, standings.get(0).position());
+		assertEquals(1, standings.get(1).position());
+		assertEquals(9, standings.get(0).totalStrokes());
+		assertEquals(new LeaderboardEntry(3, 30L, 3, 1), standings.get(2));
+	}
+
+	@Test
+	void resubmittedHoleReplacesEarlierScore() {
+		Leaderboard leaderboard = new Leaderboard(1L, List.of(10L));
+		leaderboard.record(new HoleScore(1L, 10L, 2, 18, 7));
+		leaderboard.record(new HoleScore(1L, 10L, 2, 18, 4));
+
+		assertEquals(new LeaderboardEntry(1, 10L, 4, 1), leaderboard.standings().get(0));
+	}
+
+	@Test
+	void rejectsScoresForMembersNotPlaying() {
+		Leaderboard leaderboard = new Leaderboard(1L, List.of(10L));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> leaderboard.record(new HoleScore(1L, 99L, 1, 1, 4)));
+	}
+}
@@ -0,0 +1,51 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.sharding.ClubContext;
+import org.junit.jupiter.api.Test;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberScheduleTest {
+	private static final LocalDate DAY = LocalDate.of(2030, 6, 3);
+
+	// Tournament 2 runs inside tournament 1, as registrations made before the check could
+	private final MemberSchedule schedule = new MemberSchedule(1L, List.of(
+			row(1L, DAY, DAY.plusDays(10)),
+			row(2L, DAY.plusDays(2), DAY.plusDays(3)),
+			row(3L, DAY.plusDays(20), DAY.plusDays(21))));
+
+	@Test
+	void findsOverlappingRegistrations() {
+		assertEquals(List.of(1L, 2L), schedule.overlapping(DAY.plusDays(3), DAY.plusDays(3)));
+		assertEquals(List.of(1L), schedule.overlapping(DAY.plusDays(5), DAY.plusDays(19)));
+		assertEquals(List.of(1L, 2L, 3L), schedule.overlapping(DAY.minusDays(5), DAY.plusDays(30)));
+		assertEquals(List.of(3L), schedule.overlapping(DAY.plusDays(21), DAY.plusDays(25)));
+		assertEquals(List.of(), schedule.overlapping(DAY.plusDays(11), DAY.plusDays(19)));
+		assertEquals(List.of(), schedule.overlapping(DAY.minusDays(5), DAY.minusDays(1)));
+	}
+
+	@Test
+	void isStaleOnlyWhenOwnTournamentMoves() {
+		assertFalse(schedule.isStale(updated(2L, DAY.plusDays(2), DAY.plusDays(3))));
+		assertFalse(schedule.isStale(updated(4L, DAY, DAY)));
+		assertTrue(schedule.isStale(updated(2L, DAY.plusDays(4), DAY.plusDays(5))));
+		assertTrue(schedule.isStale(TournamentChangedEvent.deleted(ClubContext.DEFAULT_CLUB, 3L)));
+	}
+
+	private static Object[] row(Long id, LocalDate start, LocalDate end) {
+		return new Object[] {id, Date.valueOf(start), end};
+	}
+
+	private static TournamentChangedEvent updated(Long id, LocalDate start, LocalDate end) {
+		return new TournamentChangedEvent(id, ClubContext.DEFAULT_CLUB,
+				new TournamentCalendarEntry(id, start, end, "Course " + id, Tournament.TournamentStatus.SCHEDULED));
+	}
+}
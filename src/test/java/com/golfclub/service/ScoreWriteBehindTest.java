@@ -0,0 +1,72 @@
+package com.golfclub.service;
+
+import com.golfclub.model.HoleScore;
+import com.golfclub.repository.HoleScoreStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScoreWriteBehindTest {
+
+	private final List<HoleScore> written = new ArrayList<>();
+	private boolean timingOut;
+
+	// Member 13 no longer exists
+	private final HoleScoreStore store = new HoleScoreStore(null) {
+		@Override
+		public void upsertAll(List<HoleScore> scores) {
+			if (timingOut) {
+				throw new QueryTimeoutException("timed out");
+			}
+			if (scores.stream().anyMatch(score -> score.memberId() == 13)) {
+				throw new DataIntegrityViolationException("fk_member");
+			}
+			written.addAll(scores);
+		}
+	};
+
+	private final ScoreWriteBehind writeBehind = new ScoreWriteBehind(store, 100, 100, 3_600_000);
+
+	@Test
+	void dropsRejectedScoresAndWritesTheRest() {
+		for (long member = 10; member < 16; member++) {
+			writeBehind.enqueue("default", new HoleScore(1L, member, 1, 1, 4));
+		}
+
+		writeBehind.flush();
+
+		assertEquals(5, written.size());
+		assertEquals(1, writeBehind.droppedCount());
+		assertEquals(0, writeBehind.pendingCount());
+	}
+
+	@Test
+	void rejectsWholeBatchThatDoesNotFit() {
+		for (long member = 0; member < 99; member++) {
+			writeBehind.enqueue("default", new HoleScore(1L, member, 1, 1, 4));
+		}
+
+		assertThrows(RejectedExecutionException.class, () -> writeBehind.enqueueAll("default",
+				List.of(new HoleScore(1L, 10L, 1, 2, 4), new HoleScore(1L, 10L, 1, 3, 5))));
+		assertEquals(99, writeBehind.pendingCount());
+	}
+
+	@Test
+	void keepsBatchAfterTransientFailure() {
+		writeBehind.enqueue("default", new HoleScore(1L, 10L, 1, 1, 4));
+		timingOut = true;
+
+		assertThrows(QueryTimeoutException.class, writeBehind::flush);
+
+		timingOut = false;
+		writeBehind.flush();
+		assertEquals(1, written.size());
+		assertEquals(0, writeBehind.droppedCount());
+	}
+}
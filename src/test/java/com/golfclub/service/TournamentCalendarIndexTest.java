@@ -0,0 +1,78 @@
+package com.golfclub.service;
+
+import com.golfclub.event.TournamentChangedEvent;
+import com.golfclub.model.Tournament;
+import com.golfclub.model.TournamentCalendarEntry;
+import com.golfclub.repository.TournamentRepo;
+import com.golfclub.sharding.ClubContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TournamentCalendarIndexTest {
+	private static final LocalDate MONDAY = LocalDate.of(2030, 6, 3);
+
+	private final TournamentRepo repo = mock(TournamentRepo.class);
+	private TournamentCalendarIndex index;
+
+	@BeforeEach
+	void setUp() {
+		when(repo.findCalendarEntries()).thenReturn(List.of(
+				entry(1L, MONDAY, MONDAY.plusDays(2)),
+				entry(2L, MONDAY.plusDays(5), MONDAY.plusDays(9)),
+				entry(3L, MONDAY.plusDays(30), MONDAY.plusDays(31))));
+		index = new TournamentCalendarIndex(repo, 60_000);
+	}
+
+	@Test
+	void findsTournamentsOverlappingRange() {
+		assertEquals(List.of(1L), ids(index.findOn(MONDAY.plusDays(1))));
+		assertEquals(List.of(2L), ids(index.findOn(MONDAY.plusDays(8))));
+		assertEquals(List.of(1L, 2L), ids(index.findOverlapping(MONDAY, MONDAY.plusDays(6))));
+		assertEquals(List.of(), ids(index.findOverlapping(MONDAY.plusDays(10), MONDAY.plusDays(29))));
+	}
+
+	@Test
+	void appliesChangeEvents() {
+		index.findOn(MONDAY);
+
+		index.onTournamentChanged(new TournamentChangedEvent(1L, ClubContext.DEFAULT_CLUB,
+				entry(1L, MONDAY.plusDays(20), MONDAY.plusDays(21))));
+		index.onTournamentChanged(TournamentChangedEvent.deleted(ClubContext.DEFAULT_CLUB, 2L));
+
+		assertEquals(List.of(), ids(index.findOverlapping(MONDAY, MONDAY.plusDays(9))));
+		assertEquals(List.of(1L, 3L), ids(index.findOverlapping(MONDAY.plusDays(20), MONDAY.plusDays(40))));
+	}
+
+	@Test
+	void findsTournamentsSpanningCenturies() {
+		index.findOn(MONDAY);
+		index.onTournamentChanged(new TournamentChangedEvent(4L, ClubContext.DEFAULT_CLUB,
+				entry(4L, MONDAY.minusDays(1), LocalDate.of(9999, 12, 31))));
+
+		assertEquals(List.of(4L, 1L), ids(index.findOn(MONDAY)));
+		assertEquals(List.of(4L, 1L, 2L, 3L), ids(index.findOverlapping(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31))));
+	}
+
+	@Test
+	void reloadsChangesMadeElsewhere() {
+		index = new TournamentCalendarIndex(repo, 0);
+		index.findOn(MONDAY);
+		when(repo.findCalendarEntries()).thenReturn(List.of(entry(5L, MONDAY, MONDAY)));
+
+		assertEquals(List.of(5L), ids(index.findOn(MONDAY)));
+	}
+
+	private static TournamentCalendarEntry entry(Long id, LocalDate start, LocalDate end) {
+		return new TournamentCalendarEntry(id, start, end, "Course " + id, Tournament.TournamentStatus.SCHEDULED);
+	}
+
+	private static List<Long> ids(List<TournamentCalendarEntry> entries) {
+		return entries.stream().map(TournamentCalendarEntry::id).toList();
+	}
+}